@@ -20,13 +20,17 @@ package org.perfidix;
 
 
 import org.perfidix.element.KindOfArrangement;
+import org.perfidix.fork.KindOfFork;
 import org.perfidix.meter.AbstractMeter;
 import org.perfidix.meter.Time;
 import org.perfidix.meter.TimeMeter;
 import org.perfidix.ouput.AbstractOutput;
+import org.perfidix.result.KindOfStorage;
 
+import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -74,6 +78,74 @@ public abstract class AbstractConfig {
      * Standard meters
      */
     private final static Set<AbstractMeter> METERS = new HashSet<AbstractMeter>();
+    /**
+     * Standard warmup runs
+     */
+    protected final static int WARMUP_RUNS = 0;
+    /**
+     * Standard threshold for the coefficient of variation ending the warmup, 0 disables the detection
+     */
+    protected final static double WARMUP_THRESHOLD = 0d;
+    /**
+     * Standard size of the sliding window for the warmup detection
+     */
+    protected final static int WARMUP_WINDOW = 10;
+    /**
+     * Standard operations per run
+     */
+    protected final static int OPERATIONS = 1;
+    /**
+     * Standard unit of the batch time, the minimum time and the maximum time
+     */
+    protected final static TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
+    /**
+     * Standard target time of one run for calibrating the operations, 0 disables the calibration
+     */
+    protected final static long BATCH_TIME = 0;
+    /**
+     * Standard minimum time per method, 0 for no minimum
+     */
+    protected final static long MIN_TIME = 0;
+    /**
+     * Standard maximum time per method, 0 for no maximum
+     */
+    protected final static long MAX_TIME = 0;
+    /**
+     * Standard minimum runs per method if time-boxed, 0 for no minimum
+     */
+    protected final static int MIN_RUNS = 0;
+    /**
+     * Standard maximum runs per method if time-boxed, 0 for no maximum
+     */
+    protected final static int MAX_RUNS = 0;
+    /**
+     * Standard target relative width of the confidence interval of the mean, 0 for no adaptive sampling
+     */
+    protected final static double CONFIDENCE_WIDTH = 0d;
+    /**
+     * Standard level of the confidence interval of the mean
+     */
+    protected final static double CONFIDENCE_LEVEL = 0.95d;
+    /**
+     * Standard runs for calibrating the overhead of the meters, 0 for no calibration
+     */
+    protected final static int OVERHEAD_RUNS = 0;
+    /**
+     * Standard number of classes executed in parallel
+     */
+    protected final static int PARALLELISM = 1;
+    /**
+     * Standard forks, 0 for no forking
+     */
+    protected final static int FORKS = 0;
+    /**
+     * Standard kind of forks
+     */
+    protected final static KindOfFork FORK = KindOfFork.ClassFork;
+    /**
+     * Standard kind of storing the results
+     */
+    protected final static KindOfStorage STORAGE = KindOfStorage.Samples;
     /**
      * actual value for runs
      */
@@ -170,6 +242,216 @@ public abstract class AbstractConfig {
         return arrangement;
     }
 
+    /**
+     * Getting the maximum number of unrecorded warmup runs executed for each method before the measurement starts.
+     * Overwrite this method to enable the warmup, a number set by {@link org.perfidix.annotation.Bench#warmupRuns()}
+     * has precedence over this value.
+     *
+     * @return the warmup runs, 0 if no warmup should take place
+     */
+    public int getWarmupRuns() {
+        return WARMUP_RUNS;
+    }
+
+    /**
+     * Getting the threshold for the coefficient of variation (stddev / mean) of the warmup runs within the sliding
+     * window. As soon as the warmup runs are below this threshold, the method is assumed to be steady and the warmup
+     * stops before {@link #getWarmupRuns()} are reached. Overwrite this method to enable the detection.
+     *
+     * @return the threshold, 0 if all warmup runs should be executed
+     */
+    public double getWarmupThreshold() {
+        return WARMUP_THRESHOLD;
+    }
+
+    /**
+     * Getting the number of latest warmup runs the coefficient of variation is computed on.
+     *
+     * @return the size of the sliding window
+     */
+    public int getWarmupWindow() {
+        return WARMUP_WINDOW;
+    }
+
+    /**
+     * Getting the number of operations, meaning invocations of the bench method, within one run. The meters are read
+     * only before and after all operations of one run and the results are recorded per operation. Overwrite this
+     * method to enable batching, a number set by {@link org.perfidix.annotation.Bench#operations()} has precedence
+     * over this value.
+     *
+     * @return the operations per run
+     */
+    public int getOperations() {
+        return OPERATIONS;
+    }
+
+    /**
+     * Getting the unit of all times of this config, meaning the batch time, the minimum time and the maximum time.
+     * Overwrite this method to set the times in another unit than milliseconds.
+     *
+     * @return the unit of the times
+     */
+    public TimeUnit getTimeUnit() {
+        return TIME_UNIT;
+    }
+
+    /**
+     * Getting the time one run should take at least. If set, the operations of each method without annotated
+     * operations are calibrated once before the measurement so that one run takes at least this time. Overwrite this
+     * method to enable the calibration.
+     *
+     * @return the target time of one run in the unit of {@link #getTimeUnit()}, 0 if no calibration should take place
+     */
+    public long getBatchTime() {
+        return BATCH_TIME;
+    }
+
+    /**
+     * Getting the minimum time each method is executed. If the runs of a method are finished before this time, further
+     * runs are executed until the time or the maximum runs are reached. A time set by
+     * {@link org.perfidix.annotation.Bench#minTime()} has precedence over this value.
+     *
+     * @return the minimum time in the unit of {@link #getTimeUnit()}, 0 if the runs should not be extended
+     */
+    public long getMinTime() {
+        return MIN_TIME;
+    }
+
+    /**
+     * Getting the maximum time each method is executed. As soon as this time is reached, all remaining runs of the
+     * method are skipped unless the minimum runs are not reached yet. A time set by
+     * {@link org.perfidix.annotation.Bench#maxTime()} has precedence over this value.
+     *
+     * @return the maximum time in the unit of {@link #getTimeUnit()}, 0 if the runs should not be limited
+     */
+    public long getMaxTime() {
+        return MAX_TIME;
+    }
+
+    /**
+     * Getting the minimum runs of each method, executed even if the maximum time is reached.
+     *
+     * @return the minimum runs, 0 for no minimum
+     */
+    public int getMinRuns() {
+        return MIN_RUNS;
+    }
+
+    /**
+     * Getting the maximum runs of each method, neither exceeded by runs to reach the minimum time nor by the runs set
+     * for the method.
+     *
+     * @return the maximum runs, 0 for no maximum
+     */
+    public int getMaxRuns() {
+        return MAX_RUNS;
+    }
+
+    /**
+     * Getting the target width of the confidence interval of the mean relative to the mean, e.g. 0.01 for +-1%. If set,
+     * each method is sampled adaptively: Runs are skipped as soon as the confidence interval of the {@link TimeMeter}
+     * (or the first meter if no {@link TimeMeter} is registered) is narrow enough and additional runs are executed until
+     * it is, bounded by the maximum runs and the maximum time.
+     * Overwrite this method to enable adaptive sampling.
+     *
+     * @return the relative half width of the confidence interval, 0 if no adaptive sampling should take place
+     */
+    public double getConfidenceWidth() {
+        return CONFIDENCE_WIDTH;
+    }
+
+    /**
+     * Getting the level of the confidence interval of the mean used for adaptive sampling.
+     *
+     * @return the confidence level, between 0 and 1
+     */
+    public double getConfidenceLevel() {
+        return CONFIDENCE_LEVEL;
+    }
+
+    /**
+     * Getting the number of runs of an empty bench to calibrate the overhead of the harness and the meters before the
+     * benchmark starts. The calibration is warmed up with the same number of runs before. The median of the runs is
+     * kept as overhead of each meter by the executors and reported in the result.
+     * Overwrite this method to enable the calibration.
+     *
+     * @return the number of calibration runs, 0 if no calibration should take place
+     */
+    public int getOverheadRuns() {
+        return OVERHEAD_RUNS;
+    }
+
+    /**
+     * Checking if the calibrated overhead of each meter should be subtracted from each run.
+     *
+     * @return true if the overhead should be subtracted, false otherwise
+     */
+    public boolean isOverheadSubtracted() {
+        return false;
+    }
+
+    /**
+     * Getting the number of threads executing the registered classes in parallel. Each thread executes a fixed
+     * partition of the classes one after another, storing the results to one shard per class which are merged after
+     * all classes are finished. Note that classes executed in parallel interfere with each other (caches, memory
+     * bandwidth, garbage collection, JIT), so that the results are less reliable. Overwrite this method to enable
+     * the parallel execution.
+     *
+     * @return the number of threads, 1 for sequential execution
+     */
+    public int getParallelism() {
+        return PARALLELISM;
+    }
+
+    /**
+     * Getting the number of forked JVMs each benchmarked class or method is executed in. The results of all forks are
+     * aggregated. Overwrite this method to enable forking. The config has to be instantiable over a parameter-free
+     * constructor within the forked JVMs.
+     *
+     * @return the forks, 0 if the benchmark is executed in the current JVM
+     */
+    public int getForks() {
+        return FORKS;
+    }
+
+    /**
+     * Getting the kind of forks, either one fork per class or one fork per method.
+     *
+     * @return the kind of forks
+     */
+    public KindOfFork getKindOfFork() {
+        return FORK;
+    }
+
+    /**
+     * Getting the kind of storing the results. Overwrite this method to keep only running aggregates instead of every
+     * value, e.g. for long-running benchmarks.
+     *
+     * @return the kind of storage
+     */
+    public KindOfStorage getKindOfStorage() {
+        return STORAGE;
+    }
+
+    /**
+     * Getting the arguments for the forked JVMs, e.g. <code>-Xmx1g</code>.
+     *
+     * @return the arguments for the forked JVMs
+     */
+    public String[] getJvmArgs() {
+        return new String[0];
+    }
+
+    /**
+     * Getting the stream the output of the forked JVMs is forwarded to, meaning everything printed by the benchmarks
+     * within the forked JVMs. The output is discarded per default.
+     *
+     * @return the stream for the output of the forked JVMs, null if the output should be discarded
+     */
+    public PrintStream getForkOutput() {
+        return null;
+    }
+
     /**
      * Standard config.
      *
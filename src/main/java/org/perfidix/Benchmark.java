@@ -21,13 +21,17 @@ package org.perfidix;
 import org.perfidix.AbstractConfig.StandardConfig;
 import org.perfidix.annotation.AfterBenchClass;
 import org.perfidix.annotation.BeforeBenchClass;
+import org.perfidix.annotation.BenchClass;
 import org.perfidix.annotation.Bench;
 import org.perfidix.element.AbstractMethodArrangement;
 import org.perfidix.element.BenchmarkElement;
 import org.perfidix.element.BenchmarkExecutor;
 import org.perfidix.element.BenchmarkMethod;
+import org.perfidix.element.BenchmarkRuns;
 import org.perfidix.exceptions.PerfidixMethodCheckException;
 import org.perfidix.exceptions.PerfidixMethodInvocationException;
+import org.perfidix.fork.ForkedBenchmark;
+import org.perfidix.meter.AbstractMeter;
 import org.perfidix.result.BenchmarkResult;
 
 import java.lang.reflect.InvocationTargetException;
@@ -89,6 +93,10 @@ public final class Benchmark {
 	 * Configuration of benchmark, holding everything.
 	 */
 	private transient final AbstractConfig conf;
+	/**
+	 * Names of the methods to bench, all benchmarkable methods if empty.
+	 */
+	private transient final Set<String> methodNames;
 
 	/**
 	 * Constructor with a fixed set of used meters.
@@ -100,7 +108,7 @@ public final class Benchmark {
 		conf = paramConf;
 		this.clazzes = new LinkedHashSet<Class<?>>();
 		this.objects = new LinkedHashSet<Object>();
-
+		this.methodNames = new HashSet<String>();
 	}
 
 	/**
@@ -170,6 +178,17 @@ public final class Benchmark {
 		}
 	}
 
+	/**
+	 * Restricting this benchmark to the methods with the given names. All
+	 * other methods of the registered classes are skipped.
+	 *
+	 * @param names
+	 *            of the methods to bench
+	 */
+	public void restrictToMethods(final String... names) {
+		this.methodNames.addAll(Arrays.asList(names));
+	}
+
 	/**
 	 * Getting the number of all methods and all runs
 	 *
@@ -189,19 +208,57 @@ public final class Benchmark {
 			if (numberOfRuns == Bench.NONE_RUN) {
 				numberOfRuns = conf.getRuns();
 			}
-			returnVal.put(meth, numberOfRuns);
+			returnVal.put(meth, numberOfRuns * Math.max(1, conf.getForks()));
 		}
 		return returnVal;
 	}
 
 	/**
-	 * Running this benchmark
+	 * Running this benchmark, either in the current JVM or, if
+	 * {@link AbstractConfig#getForks()} is set, in forked JVMs. Already
+	 * instantiated objects can not be transferred to a forked JVM, they are
+	 * benched in the current JVM with a warning.
 	 *
 	 * @return {@link BenchmarkResult} the result in an {@link BenchmarkResult}
 	 *         container.
 	 */
 	public BenchmarkResult run() {
-		final BenchmarkResult res = new BenchmarkResult(conf.getListener());
+		final BenchmarkResult res = new BenchmarkResult(conf.getKindOfStorage(),
+				conf.getListener());
+		if (conf.getForks() > 0) {
+			final Set<Class<?>> forkedClazzes = new LinkedHashSet<Class<?>>(
+					clazzes);
+			final Benchmark local = new Benchmark(conf);
+			local.restrictToMethods(methodNames.toArray(new String[methodNames
+					.size()]));
+			for (final Object obj : objects) {
+				forkedClazzes.remove(obj.getClass());
+				local.add(obj);
+				res.addWarning(new StringBuilder().append("Instance of ")
+						.append(obj.getClass().getName())
+						.append(" can not be forked, benched in the current JVM")
+						.toString());
+			}
+			new ForkedBenchmark(conf, forkedClazzes,
+					methodNames.toArray(new String[methodNames.size()]))
+					.run(res);
+			if (!objects.isEmpty()) {
+				local.runInProcess(res);
+			}
+			return res;
+		} else {
+			return runInProcess(res);
+		}
+	}
+
+	/**
+	 * Running this benchmark in the current JVM.
+	 *
+	 * @param res
+	 *            the {@link BenchmarkResult} to store the results to
+	 * @return {@link BenchmarkResult} the given result
+	 */
+	public BenchmarkResult runInProcess(final BenchmarkResult res) {
 		BenchmarkExecutor.initialize(conf, res);
 
 		// instantiate methods
@@ -209,44 +266,162 @@ public final class Benchmark {
 
 		// getting Benchmarkables
 		try {
-			final List<BenchmarkElement> elements = getBenchmarkElements(instantiatedObjs);
-
-			// arranging them
-			final AbstractMethodArrangement arrangement = AbstractMethodArrangement
-					.getMethodArrangement(elements, conf.getArrangement());
+			final List<BenchmarkRuns> runs = getBenchmarkRuns(instantiatedObjs);
 
 			// getting the mapping and executing beforemethod
 			final Map<Class<?>, Object> objectsToExecute = executeBeforeBenchClass(
 					instantiatedObjs, res);
 
-			// executing the bench for the arrangement
-			for (final BenchmarkElement elem : arrangement) {
-				// invoking gc if possible
-				if (RAN.nextDouble() < conf.getGcProb()) {
-					System.gc();
-				}
-
-				final BenchmarkExecutor exec = BenchmarkExecutor
-						.getExecutor(elem);
-
-				final Object obj = objectsToExecute.get(elem.getMeth()
-						.getMethodToBench().getDeclaringClass());
-				// check needed because of failed initialization of objects
-				if (obj != null) {
-					exec.executeBeforeMethods(obj);
-					exec.executeBench(obj, elem.getParameter());
-					exec.executeAfterMethods(obj);
-				}
+			if (conf.getParallelism() > 1 && isThreadSafe(res)) {
+				executeParallel(runs, objectsToExecute, res);
+			} else {
+				execute(runs, objectsToExecute);
 			}
 
 			// cleaning up methods to benchmark
 			tearDownObjectsToExecute(objectsToExecute, res);
 		} catch (PerfidixMethodCheckException exc) {
 			res.addException(exc);
+		} finally {
+			BenchmarkExecutor.finish();
 		}
 		return res;
 	}
 
+	/**
+	 * Executing the given runs in the order of the arrangement of the config.
+	 *
+	 * @param runs
+	 *            to be executed
+	 * @param objectsToExecute
+	 *            a mapping with class->objects to execute the runs on
+	 */
+	private void execute(final List<BenchmarkRuns> runs,
+			final Map<Class<?>, Object> objectsToExecute) {
+		// arranging them, the elements are created while iterating
+		final AbstractMethodArrangement arrangement = AbstractMethodArrangement
+				.getMethodArrangementOfRuns(runs, conf.getArrangement());
+
+		// executing the bench for the arrangement
+		for (final BenchmarkElement elem : arrangement) {
+			// invoking gc if possible
+			if (RAN.nextDouble() < conf.getGcProb()) {
+				System.gc();
+			}
+
+			final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(elem);
+
+			final Object obj = objectsToExecute.get(elem.getMeth()
+					.getMethodToBench().getDeclaringClass());
+			// check needed because of failed initialization of objects
+			if (obj != null) {
+				exec.executeBeforeMethods(obj, elem.getParameter());
+				exec.executeBench(obj, elem.getParameter());
+				exec.executeAfterMethods(obj);
+			}
+		}
+	}
+
+	/**
+	 * Checking if all meters of the config can be read by several threads at
+	 * once. Otherwise, the classes can not be executed in parallel and a
+	 * warning is added to the result.
+	 *
+	 * @param res
+	 *            the {@link BenchmarkResult} the warning is added to
+	 * @return true if all meters are thread-safe, false otherwise
+	 */
+	private boolean isThreadSafe(final BenchmarkResult res) {
+		for (final AbstractMeter meter : conf.getMeters()) {
+			if (!meter.isThreadSafe()) {
+				res.addWarning(new StringBuilder().append(meter)
+						.append(" is not thread-safe, classes executed sequentially")
+						.toString());
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Executing the runs of different classes in parallel. The classes are
+	 * partitioned statically over {@link AbstractConfig#getParallelism()}
+	 * threads, each thread executing its classes one after another. The
+	 * results of each class are stored to an own shard which are merged in
+	 * the order of the classes after all threads are finished.
+	 *
+	 * @param runs
+	 *            to be executed
+	 * @param objectsToExecute
+	 *            a mapping with class->objects to execute the runs on
+	 * @param res
+	 *            the {@link BenchmarkResult} the shards are merged to
+	 */
+	private void executeParallel(final List<BenchmarkRuns> runs,
+			final Map<Class<?>, Object> objectsToExecute,
+			final BenchmarkResult res) {
+		// grouping the runs by their classes
+		final Map<Class<?>, List<BenchmarkRuns>> runsPerClass = new LinkedHashMap<Class<?>, List<BenchmarkRuns>>();
+		for (final BenchmarkRuns each : runs) {
+			final Class<?> clazz = each.getMeth().getMethodToBench()
+					.getDeclaringClass();
+			if (!runsPerClass.containsKey(clazz)) {
+				runsPerClass.put(clazz, new ArrayList<BenchmarkRuns>());
+			}
+			runsPerClass.get(clazz).add(each);
+		}
+		final List<List<BenchmarkRuns>> partitions = new ArrayList<List<BenchmarkRuns>>(
+				runsPerClass.values());
+		final BenchmarkResult[] shards = new BenchmarkResult[partitions.size()];
+		final int threads = Math.min(conf.getParallelism(), partitions.size());
+		if (threads > 1) {
+			res.addWarning(new StringBuilder().append(partitions.size())
+					.append(" classes executed in parallel on ")
+					.append(threads)
+					.append(" threads, results may interfere with each other")
+					.toString());
+		}
+
+		final Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			final int first = i;
+			workers[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int index = first; index < partitions.size(); index = index
+							+ threads) {
+						shards[index] = new BenchmarkResult(res
+								.getKindOfStorage());
+						BenchmarkExecutor.setShard(shards[index]);
+						try {
+							execute(partitions.get(index), objectsToExecute);
+						} finally {
+							BenchmarkExecutor.setShard(null);
+						}
+					}
+				}
+			}, "perfidix-class-" + i);
+			workers[i].start();
+		}
+
+		for (final Thread worker : workers) {
+			try {
+				worker.join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				res.addException(new PerfidixMethodInvocationException(e,
+						BenchClass.class));
+			}
+		}
+
+		// merging the shards in the order of the classes
+		for (final BenchmarkResult shard : shards) {
+			if (shard != null) {
+				res.merge(shard);
+			}
+		}
+	}
+
 	/**
 	 * Setting up executable objects for all registered classes and executing
 	 * {@link BeforeBenchClass} annotated methods. If an {@link Exception}
@@ -408,7 +583,9 @@ public final class Benchmark {
 		for (final Class<?> clazz : clazzes) {
 			for (final Method meth : clazz.getDeclaredMethods()) {
 				// Check if benchmarkable, if so, insert to returnVal;
-				if (BenchmarkMethod.isBenchmarkable(meth)) {
+				if (BenchmarkMethod.isBenchmarkable(meth)
+						&& (methodNames.isEmpty() || methodNames.contains(meth
+								.getName()))) {
 					final BenchmarkMethod benchmarkMeth = new BenchmarkMethod(
 							meth);
 					elems.add(benchmarkMeth);
@@ -419,20 +596,21 @@ public final class Benchmark {
 	}
 
 	/**
-	 * Getting all benchmarkable objects out of the registered classes with the
-	 * annotated number of runs.
+	 * Getting the runs of all benchmarkable methods out of the registered
+	 * classes with the annotated number of runs. The single elements of each
+	 * run are created lazily by the arrangement.
 	 *
 	 * @param paramObjs
 	 *            a set with all existing objects for getting data from the
 	 *            dataproviders
-	 * @return a Set with {@link BenchmarkMethod}
+	 * @return a List with {@link BenchmarkRuns}
 	 * @throws PerfidixMethodCheckException
 	 */
-	private List<BenchmarkElement> getBenchmarkElements(
+	private List<BenchmarkRuns> getBenchmarkRuns(
 			final Map<Class<?>, Object> paramObjs)
 			throws PerfidixMethodCheckException {
 
-		final List<BenchmarkElement> elems = new ArrayList<BenchmarkElement>();
+		final List<BenchmarkRuns> runs = new ArrayList<BenchmarkRuns>();
 		final List<BenchmarkMethod> meths = getBenchmarkMethods();
 
 		for (final BenchmarkMethod meth : meths) {
@@ -447,25 +625,17 @@ public final class Benchmark {
 					numberOfRuns = conf.getRuns();
 				}
 
-				// ...and adding this number of
-				// elements to the set to be evaluated.
-				for (int i = 0; i < numberOfRuns; i++) {
-					elems.add(new BenchmarkElement(meth));
-				}
+				runs.add(new BenchmarkRuns(meth, numberOfRuns));
 			}// If the method is parameterized...
 			else {
-				// ..get the parameters
+				// ..get the parameters, one run per parameter set
 				final Object[][] dataProvider = getDataProviderContent(
 						dataProv, paramObjs.get(meth.getMethodToBench()
 								.getDeclaringClass()));
-				for (final Object[] parameterSet : dataProvider) {
-					elems.add(new BenchmarkElement(meth, parameterSet));
-				}
-
-				// TODO continue over here
+				runs.add(new BenchmarkRuns(meth, dataProvider));
 			}
 		}
 
-		return elems;
+		return runs;
 	}
 }
@@ -22,6 +22,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This Annotation marks a simple bench. Each Method annotated with
@@ -78,6 +79,48 @@ public @interface Bench {
 	 */
 	int runs() default NONE_RUN;
 
+	/**
+	 * Parameter for the maximum number of unrecorded warmup runs of this bench
+	 * before the measurement starts.
+	 * 
+	 * @return number of warmup runs of benchmark
+	 */
+	int warmupRuns() default NONE_RUN;
+
+	/**
+	 * Parameter for the number of operations, meaning invocations of this
+	 * bench between two readings of the meters. The results are recorded per
+	 * operation.
+	 * 
+	 * @return number of operations per run of benchmark
+	 */
+	int operations() default NONE_RUN;
+
+	/**
+	 * Parameter for the minimum time in the unit of {@link #timeUnit()} this
+	 * bench is executed. Additional runs are executed until the time is
+	 * reached.
+	 * 
+	 * @return minimum time of benchmark
+	 */
+	long minTime() default NONE_RUN;
+
+	/**
+	 * Parameter for the maximum time in the unit of {@link #timeUnit()} this
+	 * bench is executed. All remaining runs are skipped as soon as the time is
+	 * reached.
+	 * 
+	 * @return maximum time of benchmark
+	 */
+	long maxTime() default NONE_RUN;
+
+	/**
+	 * Parameter for the unit of {@link #minTime()} and {@link #maxTime()}.
+	 * 
+	 * @return unit of the times of benchmark
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
 	/**
 	 * Data provider for multiple invocations of the same benchmarked method
 	 * with different parameters
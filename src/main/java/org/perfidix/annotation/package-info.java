@@ -42,6 +42,8 @@
  * configuration for a benchmark.</li>
  * <li>{@link org.perfidix.annotation.SkipBench}: Elements annotated with this annotation are skipped for all benching
  * activities.</li>
+ * <li>{@link org.perfidix.annotation.Threads}: Methods annotated with this annotation are benchmarked concurrently on
+ * multiple worker threads.</li>
  * </ul>
  */
 package org.perfidix.annotation;
@@ -19,55 +19,82 @@
 package org.perfidix.element;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 
 /**
- * This method defines an order for the execution of all methods. A collection with definitly benchmarkable methods is
- * given in, shuffled in a way and returned as an iterator. The kind of shuffling is set by the enum
- * {@link KindOfArrangement}. ordered with the help of inheriting classes.
+ * This method defines an order for the execution of all methods. The runs of definitly benchmarkable methods are given
+ * in, shuffled in a way and returned as an iterator. The kind of shuffling is set by the enum
+ * {@link KindOfArrangement}. ordered with the help of inheriting classes. The elements are created lazily while
+ * iterating, so that the memory footprint does not depend on the number of runs.
  *
  * @author Sebastian Graf, University of Konstanz
  */
 public abstract class AbstractMethodArrangement implements Iterable<BenchmarkElement> {
 
     /**
-     * List to hold all benchmarkable elements in the correct order as a base for the iterator.
+     * List to hold the runs of all benchmarkable methods as a base for the iterator.
      */
-    private transient final List<BenchmarkElement> elementList;
+    private transient final List<BenchmarkRuns> runList;
 
     /**
-     * Constructor which takes all benchmarkable methods. These methods are afterwards shuffled with the help of the
-     * implementing class. Note that the elements are fix after the arrangement.
+     * Constructor which takes the runs of all benchmarkable methods. These runs are afterwards shuffled with the help of
+     * the implementing class while iterating.
      *
-     * @param elements definitly benchmarkable objects.
+     * @param runs of definitly benchmarkable methods.
      */
-    AbstractMethodArrangement(final List<BenchmarkElement> elements) {
-        final List<BenchmarkElement> arrangedList = arrangeList(elements);
-        this.elementList = Collections.unmodifiableList(arrangedList);
+    AbstractMethodArrangement(final List<BenchmarkRuns> runs) {
+        this.runList = Collections.unmodifiableList(new ArrayList<BenchmarkRuns>(runs));
     }
 
     /**
-     * Factory method to get the method arrangement for a given set of classes. The kind of arrangement is set by an
-     * instance of the enum {@link KindOfArrangement}.
+     * Factory method to get the method arrangement for a given set of elements. The elements are grouped by their
+     * methods. The kind of arrangement is set by an instance of the enum {@link KindOfArrangement}.
      *
      * @param elements to be benched
      * @param kind     for the method arrangement
      * @return the arrangement, mainly an iterator
      */
     public static AbstractMethodArrangement getMethodArrangement(final List<BenchmarkElement> elements, final KindOfArrangement kind) {
+        final Map<BenchmarkMethod, List<BenchmarkElement>> grouped = new LinkedHashMap<BenchmarkMethod, List<BenchmarkElement>>();
+        for (final BenchmarkElement elem : elements) {
+            if (!grouped.containsKey(elem.getMeth())) {
+                grouped.put(elem.getMeth(), new ArrayList<BenchmarkElement>());
+            }
+            grouped.get(elem.getMeth()).add(elem);
+        }
+        final List<BenchmarkRuns> runs = new ArrayList<BenchmarkRuns>();
+        for (final List<BenchmarkElement> methodElements : grouped.values()) {
+            runs.add(new BenchmarkRuns(methodElements));
+        }
+        return getMethodArrangementOfRuns(runs, kind);
+    }
+
+    /**
+     * Factory method to get the method arrangement for the runs of a given set of methods. The kind of arrangement is
+     * set by an instance of the enum {@link KindOfArrangement}.
+     *
+     * @param runs to be benched
+     * @param kind for the method arrangement
+     * @return the arrangement, mainly an iterator
+     */
+    public static AbstractMethodArrangement getMethodArrangementOfRuns(final List<BenchmarkRuns> runs, final KindOfArrangement kind) {
         AbstractMethodArrangement arrang = null;
         switch (kind) {
             case NoArrangement:
-                arrang = new NoMethodArrangement(elements);
+                arrang = new NoMethodArrangement(runs);
                 break;
             case ShuffleArrangement:
-                arrang = new ShuffleMethodArrangement(elements);
+                arrang = new ShuffleMethodArrangement(runs);
                 break;
             case SequentialMethodArrangement:
-                arrang = new SequentialMethodArrangement(elements);
+                arrang = new SequentialMethodArrangement(runs);
                 break;
             default:
                 throw new IllegalArgumentException("Kind not known!");
@@ -77,17 +104,142 @@ public abstract class AbstractMethodArrangement implements Iterable<BenchmarkEle
     }
 
     /**
-     * Method to arrange benchmarkable methods in different orders.
+     * Method to arrange the runs of benchmarkable methods in different orders.
      *
-     * @param methods to be arranged
-     * @return the arranged methods.
+     * @param runs to be arranged
+     * @return an iterator over the arranged elements.
      */
-    protected abstract List<BenchmarkElement> arrangeList(final List<BenchmarkElement> methods);
+    protected abstract Iterator<BenchmarkElement> arrange(final List<BenchmarkRuns> runs);
 
     /**
      * {@inheritDoc}
      */
     public final Iterator<BenchmarkElement> iterator() {
-        return this.elementList.iterator();
+        return arrange(this.runList);
+    }
+
+    /**
+     * Iterator creating the elements of given runs on demand. The implementing arrangements only choose the runs the
+     * next element is taken from.
+     *
+     * @author Sebastian Graf, University of Konstanz
+     */
+    protected abstract static class AbstractArrangementIterator implements Iterator<BenchmarkElement> {
+
+        /**
+         * Runs to be arranged.
+         */
+        private transient final List<BenchmarkRuns> runs;
+
+        /**
+         * Number of already created elements per runs.
+         */
+        private transient final int[] created;
+
+        /**
+         * Number of elements left over all runs.
+         */
+        private transient int left;
+
+        /**
+         * Constructor.
+         *
+         * @param paramRuns to be arranged
+         */
+        protected AbstractArrangementIterator(final List<BenchmarkRuns> paramRuns) {
+            runs = paramRuns;
+            created = new int[runs.size()];
+            for (final BenchmarkRuns each : runs) {
+                left = left + each.size();
+            }
+        }
+
+        /**
+         * Choosing the runs the next element is taken from.
+         *
+         * @return the index of runs with elements left
+         */
+        protected abstract int chooseRuns();
+
+        /**
+         * Choosing the run of the given runs the next element is created for. The runs are taken in their given order
+         * if not overridden.
+         *
+         * @param index   of the runs chosen by {@link #chooseRuns()}
+         * @param created number of elements already created of these runs
+         * @return the index of the run within the runs
+         */
+        protected int chooseRun(final int index, final int created) {
+            return created;
+        }
+
+        /**
+         * Getting the runs at one index.
+         *
+         * @param index of the runs
+         * @return the runs
+         */
+        protected final BenchmarkRuns getRuns(final int index) {
+            return runs.get(index);
+        }
+
+        /**
+         * Getting the number of elements left of one runs.
+         *
+         * @param index of the runs
+         * @return the number of elements left
+         */
+        protected final int getLeft(final int index) {
+            return runs.get(index).size() - created[index];
+        }
+
+        /**
+         * Getting the number of elements left over all runs.
+         *
+         * @return the number of elements left
+         */
+        protected final int getLeft() {
+            return left;
+        }
+
+        /**
+         * Getting the number of runs.
+         *
+         * @return the number of runs
+         */
+        protected final int getNumberOfRuns() {
+            return runs.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final boolean hasNext() {
+            return left > 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final BenchmarkElement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int index = chooseRuns();
+            final BenchmarkElement elem = runs.get(index).getElement(chooseRun(index, created[index]));
+            created[index]++;
+            left--;
+            return elem;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
     }
 }
@@ -19,17 +19,32 @@
 package org.perfidix.element;
 
 
+import org.apache.commons.math.MathException;
+import org.apache.commons.math.distribution.NormalDistributionImpl;
+import org.apache.commons.math.distribution.TDistributionImpl;
+import org.apache.commons.math.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math.stat.descriptive.moment.Mean;
+import org.apache.commons.math.stat.descriptive.moment.StandardDeviation;
+import org.apache.commons.math.stat.descriptive.rank.Median;
 import org.perfidix.AbstractConfig;
 import org.perfidix.annotation.*;
 import org.perfidix.exceptions.PerfidixMethodCheckException;
 import org.perfidix.exceptions.PerfidixMethodInvocationException;
 import org.perfidix.meter.AbstractMeter;
+import org.perfidix.meter.CompilationMeter;
+import org.perfidix.meter.GarbageCollection;
+import org.perfidix.meter.TimeMeter;
 import org.perfidix.result.BenchmarkResult;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -57,11 +72,54 @@ public final class BenchmarkExecutor {
      */
     private static final Set<AbstractMeter> METERS_TO_BENCH = new LinkedHashSet<>();
 
+    /**
+     * All meters to be benched as array, iterated without allocation within the measured window.
+     */
+    private static AbstractMeter[] METER_ARRAY = new AbstractMeter[0];
+
+    /**
+     * Maximum number of operations within one run reached by the calibration.
+     */
+    private static final int MAX_OPERATIONS = 1 << 20;
+
+    /**
+     * Maximum number of runs reached by adaptive sampling if no maximum runs are set in the config.
+     */
+    static final int MAX_ADAPTIVE_RUNS = 1 << 16;
+
+    /**
+     * Degrees of freedom from which on the quantile of the normal distribution is taken instead of the t-distribution,
+     * differing by less than 0.2 percent for common confidence levels.
+     */
+    static final int NORMAL_DEGREES = 1 << 10;
+
+    /**
+     * Cached quantiles of the t-distribution per confidence level, indexed by the degrees of freedom. The quantile of
+     * the normal distribution is cached at index 0.
+     */
+    private static final Map<Double, double[]> QUANTILES = new HashMap<>();
+
+    /**
+     * Calibrated overhead of each meter to bench, aligned with the meter array, 0 unless the calibration took place.
+     */
+    private static double[] OVERHEADS = new double[0];
+
+    /**
+     * Index of the meter whose confidence interval is checked by adaptive sampling.
+     */
+    private static int CONFIDENCE_METER;
+
     /**
      * Result for all Benchmarks.
      */
     private static BenchmarkResult BENCHRES;
 
+    /**
+     * Result shard of the current thread if classes are executed in parallel, overriding the result for all
+     * executors created by this thread.
+     */
+    private static final ThreadLocal<BenchmarkResult> SHARD = new ThreadLocal<>();
+
     /**
      * Config for all Benchmarks.
      */
@@ -71,11 +129,81 @@ public final class BenchmarkExecutor {
      */
     private transient final BenchmarkMethod element;
 
+    /**
+     * Result all data of this executor is stored to.
+     */
+    private transient final BenchmarkResult result;
+
     /**
      * Boolean to be sure that the beforeFirstRun was not executed yet.
      */
     private transient boolean beforeFirstRun;
 
+    /**
+     * Boolean to be sure that the warmup was not executed yet.
+     */
+    private transient boolean warmedUp;
+
+    /**
+     * Number of operations within one run.
+     */
+    private transient int operations;
+
+    /**
+     * Boolean to be sure that the operations are calibrated, set if no calibration is needed.
+     */
+    private transient boolean calibrated;
+
+    /**
+     * Numbers of worker threads for concurrent execution, empty if the method is executed on the calling thread.
+     */
+    private transient final int[] threads;
+
+    /**
+     * Started workers per number of threads for concurrent execution.
+     */
+    private transient final Map<Integer, WorkerPool> workers;
+
+    /**
+     * Invokers for the bench method and its before/after methods, bound once to the object of the benchclass.
+     */
+    private transient final Map<Method, BenchmarkInvoker> invokers;
+
+    /**
+     * Minimum time of all runs in nano seconds, 0 if the runs should not be extended.
+     */
+    private transient final long minTime;
+
+    /**
+     * Maximum time of all runs in nano seconds, 0 if the runs should not be limited.
+     */
+    private transient final long maxTime;
+
+    /**
+     * Start of the first measured run in nano seconds.
+     */
+    private transient long startTime;
+
+    /**
+     * Number of executed runs.
+     */
+    private transient int executedRuns;
+
+    /**
+     * Boolean to be sure that the current run is skipped because the time budget is exhausted.
+     */
+    private transient boolean skipRun;
+
+    /**
+     * Boolean to be sure that the last run failed, no additional runs are executed afterwards.
+     */
+    private transient boolean failed;
+
+    /**
+     * Online statistics of the meter checked by adaptive sampling.
+     */
+    private transient final SummaryStatistics samples;
+
     /**
      * Private constructor, just setting the booleans and one element to get the before/after methods.
      *
@@ -83,7 +211,36 @@ public final class BenchmarkExecutor {
      */
     private BenchmarkExecutor(final BenchmarkMethod paramElement) {
         beforeFirstRun = false;
+        warmedUp = false;
         element = paramElement;
+        invokers = new HashMap<>();
+        workers = new HashMap<>();
+        result = SHARD.get() == null ? BENCHRES : SHARD.get();
+
+        operations = BenchmarkMethod.getNumberOfAnnotatedOperations(element.getMethodToBench());
+        calibrated = operations != Bench.NONE_RUN || CONFIG.getBatchTime() <= 0;
+        if (operations == Bench.NONE_RUN) {
+            operations = CONFIG.getOperations();
+        }
+        if (operations < 1) {
+            operations = 1;
+        }
+        threads = BenchmarkMethod.getAnnotatedThreads(element.getMethodToBench());
+
+        final TimeUnit unit = BenchmarkMethod.getAnnotatedTimeUnit(element.getMethodToBench());
+        final long min = BenchmarkMethod.getAnnotatedMinTime(element.getMethodToBench());
+        if (min == Bench.NONE_RUN) {
+            minTime = CONFIG.getTimeUnit().toNanos(Math.max(0, CONFIG.getMinTime()));
+        } else {
+            minTime = unit.toNanos(Math.max(0, min));
+        }
+        final long max = BenchmarkMethod.getAnnotatedMaxTime(element.getMethodToBench());
+        if (max == Bench.NONE_RUN) {
+            maxTime = CONFIG.getTimeUnit().toNanos(Math.max(0, CONFIG.getMaxTime()));
+        } else {
+            maxTime = unit.toNanos(Math.max(0, max));
+        }
+        samples = new SummaryStatistics();
     }
 
     /**
@@ -120,12 +277,98 @@ public final class BenchmarkExecutor {
      * @param result to be stored to
      */
     public static void initialize(final AbstractConfig config, final BenchmarkResult result) {
+        finish();
         METERS_TO_BENCH.clear();
         METERS_TO_BENCH.addAll(Arrays.asList(config.getMeters()));
+        METER_ARRAY = METERS_TO_BENCH.toArray(new AbstractMeter[METERS_TO_BENCH.size()]);
+        CONFIDENCE_METER = 0;
+        for (int i = 0; i < METER_ARRAY.length; i++) {
+            if (METER_ARRAY[i] instanceof TimeMeter) {
+                CONFIDENCE_METER = i;
+                break;
+            }
+        }
         EXECUTOR.clear();
         BENCHRES = result;
         CONFIG = config;
 
+        OVERHEADS = new double[METER_ARRAY.length];
+        if (config.getOverheadRuns() > 0) {
+            calibrateOverhead(config.getOverheadRuns());
+        }
+    }
+
+    /**
+     * Finishing the benchmark, shutting down the workers of all executors and closing all meters holding resources
+     * like open files. Closed meters acquire their resources again when read by another benchmark.
+     */
+    public static void finish() {
+        for (final BenchmarkExecutor exec : EXECUTOR.values()) {
+            exec.shutdownWorkers();
+        }
+        for (final AbstractMeter meter : METER_ARRAY) {
+            if (meter instanceof Closeable) {
+                try {
+                    ((Closeable) meter).close();
+                } catch (final IOException e) {
+                    if (BENCHRES != null) {
+                        BENCHRES.addWarning(meter + " could not be closed: " + e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calibrating the overhead of the harness and the meters. All meters are read around an empty bench like within
+     * {@link #executeBench(Object, Object...)}. The same number of runs is executed unrecorded before, so that the
+     * calibration is warmed up like the bench methods. The median of all recorded runs is kept as overhead of each
+     * meter by the executors and reported in the result, the meters themselves are not changed.
+     *
+     * @param runs number of calibration runs
+     */
+    static void calibrateOverhead(final int runs) {
+        final AbstractMeter[] meters = METER_ARRAY;
+        final BenchmarkInvoker invoker;
+        try {
+            invoker = new BenchmarkInvoker(new EmptyBench(), EmptyBench.class.getMethod("bench"));
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final double[][] deltas = new double[meters.length][runs];
+        final long[] rawValues = new long[meters.length];
+        final double[] values = new double[meters.length];
+        // warming up with the same runs, overwritten by the recorded runs afterwards
+        for (int run = 0; run < 2 * runs; run++) {
+            readMeters(meters, rawValues, values);
+            invoker.invoke(Bench.class);
+            readMeterDifferences(meters, rawValues, values);
+            for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+                deltas[meterIndex][run % runs] = values[meterIndex];
+            }
+        }
+
+        final double[] overheads = new double[meters.length];
+        for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+            overheads[meterIndex] = new Median().evaluate(deltas[meterIndex]);
+            BENCHRES.setOverhead(meters[meterIndex], overheads[meterIndex]);
+        }
+        OVERHEADS = overheads;
+    }
+
+    /**
+     * Setting the result shard for all executors created afterwards by the current thread. Used if classes are
+     * executed in parallel, each class storing its data to its own shard.
+     *
+     * @param shard to be stored to, null to store to the result given by the initialization again
+     */
+    public static void setShard(final BenchmarkResult shard) {
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
     }
 
     /**
@@ -182,11 +425,18 @@ public final class BenchmarkExecutor {
     }
 
     /**
-     * Executing the {@link BeforeFirstRun}-annotated methods (if still wasn't) and the {@link BeforeEachRun} methods.
+     * Executing the {@link BeforeFirstRun}-annotated methods (if still wasn't), the warmup (if still wasn't) and the
+     * {@link BeforeEachRun} methods. If the time budget of the method is exhausted, the whole run is skipped.
      *
-     * @param obj the object of the class where the bench runs currently in.
+     * @param obj  the object of the class where the bench runs currently in.
+     * @param args arguments for the method to execute within the warmup
      */
-    public void executeBeforeMethods(final Object obj) {
+    public void executeBeforeMethods(final Object obj, final Object... args) {
+        skipRun = isExhausted();
+        if (skipRun) {
+            return;
+        }
+
         // Invoke element only if not parameterized
         if (this.element.getDataProvider() == null) {
             // invoking once the beforeFirstRun-method
@@ -200,63 +450,476 @@ public final class BenchmarkExecutor {
                         checkAndExecuteBeforeAfters(obj, BeforeFirstRun.class, beforeFirst);
                     }
                 } catch (final PerfidixMethodCheckException e) {
-                    BENCHRES.addException(e);
+                    result.addException(e);
+                }
+            }
+        }
+
+        // warming up and calibrating once after the setUp of the method
+        if (!warmedUp) {
+            warmedUp = true;
+            // reading once to set up the per-thread state of the meters outside of the measured runs
+            readMeters(METER_ARRAY, new long[METER_ARRAY.length], new double[METER_ARRAY.length]);
+            executeWarmup(obj, args);
+        }
+        if (!calibrated) {
+            calibrated = true;
+            calibrateOperations(obj, args);
+        }
+
+        if (this.element.getDataProvider() == null) {
+            executeBeforeEachRun(obj);
+        }
+    }
+
+    /**
+     * Executing the {@link BeforeEachRun} methods.
+     *
+     * @param obj the object of the class where the bench runs currently in.
+     */
+    private void executeBeforeEachRun(final Object obj) {
+        // invoking the beforeEachRun-method
+        Method[] beforeEach = null;
+        try {
+            beforeEach = element.findBeforeEachRun();
+            if (beforeEach.length != 0) {
+                checkAndExecuteBeforeAfters(obj, BeforeEachRun.class, beforeEach);
+            }
+        } catch (final PerfidixMethodCheckException e) {
+            result.addException(e);
+        }
+    }
+
+    /**
+     * Checking if the time budget of this method is exhausted. This is the case if the maximum runs are reached or if
+     * the maximum time or, with adaptive sampling, the target width of the confidence interval is reached after the
+     * minimum runs. Parameterized methods are never time-boxed.
+     *
+     * @return true if all further runs should be skipped, false otherwise
+     */
+    boolean isExhausted() {
+        if (element.getDataProvider() != null || executedRuns == 0) {
+            return false;
+        }
+        int maxRuns = CONFIG.getMaxRuns();
+        if (maxRuns <= 0 && CONFIG.getConfidenceWidth() > 0) {
+            maxRuns = MAX_ADAPTIVE_RUNS;
+        }
+        if (maxRuns > 0 && executedRuns >= maxRuns) {
+            return true;
+        }
+        if (executedRuns < CONFIG.getMinRuns()) {
+            return false;
+        }
+        return maxTime > 0 && System.nanoTime() - startTime >= maxTime || isConfident();
+    }
+
+    /**
+     * Checking if the confidence interval of the mean of the {@link TimeMeter}, or the first meter if no
+     * {@link TimeMeter} is registered, is narrower than the target width of the config.
+     *
+     * @return true if adaptive sampling is enabled and the target width is reached, false otherwise
+     */
+    boolean isConfident() {
+        final double width = CONFIG.getConfidenceWidth();
+        if (width <= 0 || samples.getN() < 2) {
+            return false;
+        }
+        final double mean = Math.abs(samples.getMean());
+        final double halfWidth = getConfidenceHalfWidth(samples, CONFIG.getConfidenceLevel());
+        return halfWidth <= width * mean;
+    }
+
+    /**
+     * Computing the half width of the confidence interval of the mean based on the t-distribution.
+     *
+     * @param stats with at least two values
+     * @param level of the confidence interval
+     * @return the half width of the confidence interval
+     */
+    static double getConfidenceHalfWidth(final SummaryStatistics stats, final double level) {
+        final double quantile = getQuantile(stats.getN() - 1, level);
+        return quantile * stats.getStandardDeviation() / Math.sqrt(stats.getN());
+    }
+
+    /**
+     * Getting the two-sided quantile of the t-distribution for given degrees of freedom, computed once per degrees of
+     * freedom and confidence level. From {@link #NORMAL_DEGREES} on, the quantile of the normal distribution is taken.
+     *
+     * @param degrees of freedom, at least 1
+     * @param level   of the confidence interval
+     * @return the quantile, infinity if it could not be computed
+     */
+    static synchronized double getQuantile(final long degrees, final double level) {
+        double[] quantiles = QUANTILES.get(level);
+        if (quantiles == null) {
+            quantiles = new double[NORMAL_DEGREES];
+            QUANTILES.put(level, quantiles);
+        }
+        final int index = degrees < NORMAL_DEGREES ? (int) degrees : 0;
+        if (quantiles[index] == 0) {
+            final double probability = 1 - (1 - level) / 2;
+            try {
+                if (index == 0) {
+                    quantiles[index] = new NormalDistributionImpl().inverseCumulativeProbability(probability);
+                } else {
+                    quantiles[index] = new TDistributionImpl(index).inverseCumulativeProbability(probability);
                 }
+            } catch (final MathException e) {
+                quantiles[index] = Double.POSITIVE_INFINITY;
             }
+        }
+        return quantiles[index];
+    }
 
-            // invoking the beforeEachRun-method
-            Method[] beforeEach = null;
+    /**
+     * Checking if additional runs are needed to reach the minimum time, the minimum runs or, with adaptive sampling,
+     * the target width of the confidence interval of this method. Parameterized methods are never time-boxed.
+     *
+     * @return true if further runs should be executed, false otherwise
+     */
+    boolean needsAdditionalRuns() {
+        if (element.getDataProvider() != null || failed || isExhausted()) {
+            return false;
+        }
+        if (executedRuns < CONFIG.getMinRuns() || CONFIG.getConfidenceWidth() > 0) {
+            return true;
+        }
+        return minTime > 0 && executedRuns > 0 && System.nanoTime() - startTime < minTime;
+    }
+
+    /**
+     * Executing the warmup runs of the bench method. The runs are not recorded. If a threshold is set in the config,
+     * the warmup stops as soon as the coefficient of variation over the sliding window of the latest runs falls below
+     * the threshold.
+     *
+     * @param obj  the instance of the benchclass where the method should be executed with.
+     * @param args arguments for the method to execute
+     */
+    private void executeWarmup(final Object obj, final Object... args) {
+        int warmupRuns = BenchmarkMethod.getNumberOfAnnotatedWarmupRuns(element.getMethodToBench());
+        if (warmupRuns == Bench.NONE_RUN) {
+            warmupRuns = CONFIG.getWarmupRuns();
+        }
+        if (warmupRuns <= 0) {
+            return;
+        }
+
+        // the each-run methods are not invoked for parameterized benchs
+        Method[] beforeEach = new Method[0];
+        Method[] afterEach = new Method[0];
+        if (this.element.getDataProvider() == null) {
             try {
                 beforeEach = element.findBeforeEachRun();
-                if (beforeEach.length != 0) {
-                    checkAndExecuteBeforeAfters(obj, BeforeEachRun.class, beforeEach);
-                }
+                afterEach = element.findAfterEachRun();
             } catch (final PerfidixMethodCheckException e) {
-                BENCHRES.addException(e);
+                // reported by the measured runs, no warmup possible
+                return;
+            }
+        }
+
+        final double threshold = CONFIG.getWarmupThreshold();
+        final double[] window = new double[Math.max(2, CONFIG.getWarmupWindow())];
+        final BenchmarkInvoker invoker = getInvoker(obj, element.getMethodToBench());
+
+        for (int i = 0; i < warmupRuns; i++) {
+            if (beforeEach.length != 0) {
+                checkAndExecuteBeforeAfters(obj, BeforeEachRun.class, beforeEach);
+            }
+
+            final long start = System.nanoTime();
+            final PerfidixMethodInvocationException res = invoker.invoke(Bench.class, args);
+            window[i % window.length] = System.nanoTime() - start;
+
+            if (afterEach.length != 0) {
+                checkAndExecuteBeforeAfters(obj, AfterEachRun.class, afterEach);
+            }
+
+            // failing methods are reported by the measured runs
+            if (res != null) {
+                break;
+            }
+            if (threshold > 0 && i + 1 >= window.length && getCoefficientOfVariation(window) < threshold) {
+                break;
             }
         }
     }
 
     /**
-     * Execution of bench method. All data is stored corresponding to the meters.
+     * Calibrating the number of operations within one run. The operations are doubled until the invocation of all
+     * operations takes at least the batch time set in the config. The invocations are not recorded.
+     *
+     * @param obj  the instance of the benchclass where the method should be executed with.
+     * @param args arguments for the method to execute
+     */
+    private void calibrateOperations(final Object obj, final Object... args) {
+        final BenchmarkInvoker invoker = getInvoker(obj, element.getMethodToBench());
+        final long batchTime = CONFIG.getTimeUnit().toNanos(CONFIG.getBatchTime());
+        int ops = 1;
+        while (ops < MAX_OPERATIONS) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < ops; i++) {
+                // failing methods are reported by the measured runs
+                if (invoker.invoke(Bench.class, args) != null) {
+                    operations = ops;
+                    return;
+                }
+            }
+            if (System.nanoTime() - start >= batchTime) {
+                break;
+            }
+            ops = ops * 2;
+        }
+        operations = ops;
+    }
+
+    /**
+     * Computing the coefficient of variation (stddev / mean) of given values.
+     *
+     * @param values to be evaluated
+     * @return the coefficient of variation, 0 if the mean is 0
+     */
+    static double getCoefficientOfVariation(final double[] values) {
+        final double mean = new Mean().evaluate(values);
+        if (mean == 0) {
+            return 0;
+        }
+        return new StandardDeviation().evaluate(values) / mean;
+    }
+
+    /**
+     * Execution of bench method. All data is stored corresponding to the meters. If multiple operations are set for
+     * the method, the method is invoked for all operations between the readings of the meters and the data is stored
+     * per operation. If the method is annotated with {@link Threads}, the execution takes place concurrently for each
+     * given number of threads. Runs hit by a garbage collection or taken while the JIT compiler was busy are flagged
+     * within the result.
      *
      * @param objToExecute the instance of the benchclass where the method should be executed with.
      * @param args         arguments for the method to execure
      */
     public void executeBench(final Object objToExecute, final Object... args) {
+        if (skipRun) {
+            return;
+        }
+        if (executedRuns == 0) {
+            startTime = System.nanoTime();
+        }
+        executedRuns++;
+
+        if (threads.length > 0) {
+            for (final int threadCount : threads) {
+                executeConcurrentBench(objToExecute, threadCount, args);
+            }
+            return;
+        }
+
+        final AbstractMeter[] meters = METER_ARRAY;
+        final long[] rawResults = new long[meters.length];
+        final double[] meterResults = new double[meters.length];
 
-        final double[] meterResults = new double[METERS_TO_BENCH.size()];
+        final BenchmarkInvoker invoker = getInvoker(objToExecute, element.getMethodToBench());
+        final long collections = GarbageCollection.getCollectionCount();
+        final long compilation = CompilationMeter.getTotalCompilationTime();
 
-        final Method meth = element.getMethodToBench();
+        readMeters(meters, rawResults, meterResults);
 
-        int meterIndex1 = 0;
-        int meterIndex2 = 0;
-        for (final AbstractMeter meter : METERS_TO_BENCH) {
-            meterResults[meterIndex1] = meter.getValue();
-            meterIndex1++;
+        PerfidixMethodInvocationException res = null;
+        for (int i = 0; i < operations && res == null; i++) {
+            res = invoker.invoke(Bench.class, args);
         }
 
-        final PerfidixMethodInvocationException res = invokeMethod(objToExecute, Bench.class, meth, args);
+        readMeterDifferences(meters, rawResults, meterResults);
 
-        for (final AbstractMeter meter : METERS_TO_BENCH) {
-            meterResults[meterIndex2] = meter.getValue() - meterResults[meterIndex2];
-            meterIndex2++;
-        }
+        final boolean hitByGc = GarbageCollection.getCollectionCount() != collections;
+        final boolean hitByJit = CompilationMeter.getTotalCompilationTime() != compilation;
 
         if (res == null) {
-            meterIndex1 = 0;
-            for (final AbstractMeter meter : METERS_TO_BENCH) {
-                BENCHRES.addData(element, meter, meterResults[meterIndex1]);
-                meterIndex1++;
+            final double[] overheads = OVERHEADS;
+            final boolean subtract = CONFIG.isOverheadSubtracted();
+            for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+                if (subtract) {
+                    meterResults[meterIndex] = meterResults[meterIndex] - overheads[meterIndex];
+                }
+                meterResults[meterIndex] = meterResults[meterIndex] / operations;
+                result.addData(element, meters[meterIndex], meterResults[meterIndex]);
             }
+            if (meterResults.length > 0) {
+                samples.addValue(meterResults[CONFIDENCE_METER]);
+            }
+            result.addRun(element, hitByGc, hitByJit);
         } else {
-            BENCHRES.addException(res);
+            failed = true;
+            result.addException(res);
+        }
+
+    }
+
+    /**
+     * Concurrent execution of bench method on a given number of worker threads. The workers are started once per
+     * number of threads and reused for all runs. All threads are released together, each thread reads the meters
+     * before and after its operations. The data is stored corresponding to the meters per thread, the throughput of all
+     * threads is stored as well.
+     *
+     * @param objToExecute the instance of the benchclass where the method should be executed with.
+     * @param threadCount  number of worker threads
+     * @param args         arguments for the method to execute
+     */
+    private void executeConcurrentBench(final Object objToExecute, final int threadCount, final Object... args) {
+        final BenchmarkInvoker invoker = getInvoker(objToExecute, element.getMethodToBench());
+        final AbstractMeter[] meters = METER_ARRAY;
+        final int ops = operations;
+
+        final double[][] meterResults = new double[threadCount][meters.length];
+        final long[][] rawResults = new long[threadCount][meters.length];
+        final PerfidixMethodInvocationException[] results = new PerfidixMethodInvocationException[threadCount];
+
+        final long time;
+        final boolean hitByGc;
+        final boolean hitByJit;
+        try {
+            final WorkerPool pool = getWorkers(threadCount);
+            final long collections = GarbageCollection.getCollectionCount();
+            final long compilation = CompilationMeter.getTotalCompilationTime();
+            final long startTime = System.nanoTime();
+            pool.execute(new WorkerPool.Task() {
+                @Override
+                public void run(final int index) {
+                    readMeters(meters, rawResults[index], meterResults[index]);
+
+                    PerfidixMethodInvocationException res = null;
+                    for (int op = 0; op < ops && res == null; op++) {
+                        res = invoker.invoke(Bench.class, args);
+                    }
+
+                    readMeterDifferences(meters, rawResults[index], meterResults[index]);
+                    results[index] = res;
+                }
+            });
+            time = System.nanoTime() - startTime;
+            hitByGc = GarbageCollection.getCollectionCount() != collections;
+            hitByJit = CompilationMeter.getTotalCompilationTime() != compilation;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdownWorkers();
+            result.addException(new PerfidixMethodInvocationException(e, element.getMethodToBench(), Threads.class));
+            return;
+        } catch (final BrokenBarrierException e) {
+            shutdownWorkers();
+            result.addException(new PerfidixMethodInvocationException(e, element.getMethodToBench(), Threads.class));
+            return;
+        } catch (final ExecutionException e) {
+            // e.g. a meter failing within a worker, the workers stay usable
+            failed = true;
+            result.addException(new PerfidixMethodInvocationException(e.getCause(), element.getMethodToBench(), Bench.class));
+            return;
         }
 
+        final double[] overheads = OVERHEADS;
+        final boolean subtract = CONFIG.isOverheadSubtracted();
+        long succeededOps = 0;
+        for (int i = 0; i < threadCount; i++) {
+            if (results[i] == null) {
+                for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+                    if (subtract) {
+                        meterResults[i][meterIndex] = meterResults[i][meterIndex] - overheads[meterIndex];
+                    }
+                    meterResults[i][meterIndex] = meterResults[i][meterIndex] / ops;
+                    result.addData(element, threadCount, i, meters[meterIndex], meterResults[i][meterIndex]);
+                }
+                if (meters.length > 0) {
+                    samples.addValue(meterResults[i][CONFIDENCE_METER]);
+                }
+                succeededOps = succeededOps + ops;
+            } else {
+                failed = true;
+                result.addException(results[i]);
+            }
+        }
+        result.addThroughput(element, threadCount, succeededOps, time);
+        if (succeededOps > 0) {
+            result.addRun(element, hitByGc, hitByJit);
+        }
+    }
+
+    /**
+     * Getting the workers for a given number of threads, started on the first call. Each worker reads all meters once
+     * when started, so that the state of the meters for this thread is set up outside of the measured window.
+     *
+     * @param threadCount number of worker threads
+     * @return the started workers
+     * @throws InterruptedException if interrupted while starting the workers
+     * @throws ExecutionException   if a worker failed to read the meters
+     */
+    private WorkerPool getWorkers(final int threadCount) throws InterruptedException, ExecutionException {
+        WorkerPool pool = workers.get(threadCount);
+        if (pool == null) {
+            final AbstractMeter[] meters = METER_ARRAY;
+            pool = new WorkerPool("perfidix-" + element.getMethodToBench().getName() + "-" + threadCount, threadCount, new WorkerPool.Task() {
+                @Override
+                public void run(final int index) {
+                    readMeters(meters, new long[meters.length], new double[meters.length]);
+                }
+            });
+            workers.put(threadCount, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Shutting down all workers of this executor.
+     */
+    private void shutdownWorkers() {
+        for (final WorkerPool pool : workers.values()) {
+            pool.shutdown();
+        }
+        workers.clear();
+    }
+
+    /**
+     * Reading all meters, the raw values for meters offering them and the converted values for all others.
+     *
+     * @param meters    to be read
+     * @param rawValues the raw values are stored to
+     * @param values    the converted values are stored to
+     */
+    private static void readMeters(final AbstractMeter[] meters, final long[] rawValues, final double[] values) {
+        for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+            if (meters[meterIndex].hasRawValue()) {
+                rawValues[meterIndex] = meters[meterIndex].getRawValue();
+            } else {
+                values[meterIndex] = meters[meterIndex].getValue();
+            }
+        }
+    }
+
+    /**
+     * Reading all meters again and computing the differences to the values of {@link #readMeters(AbstractMeter[],
+     * long[], double[])}. The meters are read first, the raw differences are converted to the units of the meters
+     * afterwards.
+     *
+     * @param meters    to be read
+     * @param rawValues the raw values of the first reading, replaced by the raw differences
+     * @param values    the values of the first reading, replaced by the differences in the units of the meters
+     */
+    private static void readMeterDifferences(final AbstractMeter[] meters, final long[] rawValues, final double[] values) {
+        for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+            if (meters[meterIndex].hasRawValue()) {
+                rawValues[meterIndex] = meters[meterIndex].getRawValue() - rawValues[meterIndex];
+            } else {
+                values[meterIndex] = meters[meterIndex].getValue() - values[meterIndex];
+            }
+        }
+        for (int meterIndex = 0; meterIndex < meters.length; meterIndex++) {
+            if (meters[meterIndex].hasRawValue()) {
+                values[meterIndex] = meters[meterIndex].convertRawValue(rawValues[meterIndex]);
+            }
+        }
     }
 
     /**
-     * Executing the {@link AfterLastRun}-annotated methods (if still wasn't) and the {@link AfterEachRun} methods.
+     * Executing the {@link AfterLastRun}-annotated methods (if still wasn't) and the {@link AfterEachRun} methods. If
+     * the last run of the method is reached before the minimum time or the minimum runs, additional runs are executed
+     * before the {@link AfterLastRun}-annotated methods.
      *
      * @param obj the object of the class where the bench runs currently in.
      */
@@ -268,8 +931,18 @@ public final class BenchmarkExecutor {
             runs--;
             RUNS.put(element, runs);
 
+            if (runs == 0 && needsAdditionalRuns()) {
+                // finishing the current run before the additional ones
+                if (!skipRun) {
+                    executeAfterEachRun(obj);
+                }
+                executeAdditionalRuns(obj);
+                skipRun = true;
+            }
+
             // invoking once the beforeFirstRun-method
             if (RUNS.get(element) == 0) {
+                shutdownWorkers();
                 Method[] afterLast = null;
                 try {
                     afterLast = element.findAfterLastRun();
@@ -277,23 +950,64 @@ public final class BenchmarkExecutor {
                         checkAndExecuteBeforeAfters(obj, AfterLastRun.class, afterLast);
                     }
                 } catch (final PerfidixMethodCheckException e) {
-                    BENCHRES.addException(e);
+                    result.addException(e);
                 }
             }
 
-            // invoking the beforeEachRun-method
-            Method[] afterEach = null;
-            try {
-                afterEach = element.findAfterEachRun();
-            } catch (final PerfidixMethodCheckException e) {
-                BENCHRES.addException(e);
-            }
-            if (afterEach != null) {
-                checkAndExecuteBeforeAfters(obj, AfterEachRun.class, afterEach);
+            if (!skipRun) {
+                executeAfterEachRun(obj);
             }
         }
     }
 
+    /**
+     * Executing the {@link AfterEachRun} methods.
+     *
+     * @param obj the object of the class where the bench runs currently in.
+     */
+    private void executeAfterEachRun(final Object obj) {
+        // invoking the afterEachRun-method
+        Method[] afterEach = null;
+        try {
+            afterEach = element.findAfterEachRun();
+        } catch (final PerfidixMethodCheckException e) {
+            result.addException(e);
+        }
+        if (afterEach != null) {
+            checkAndExecuteBeforeAfters(obj, AfterEachRun.class, afterEach);
+        }
+    }
+
+    /**
+     * Executing additional runs of a non-parameterized method until the minimum time or the minimum runs are reached.
+     *
+     * @param obj the object of the class where the bench runs currently in.
+     */
+    private void executeAdditionalRuns(final Object obj) {
+        while (needsAdditionalRuns()) {
+            skipRun = false;
+            executeBeforeEachRun(obj);
+            executeBench(obj);
+            executeAfterEachRun(obj);
+        }
+    }
+
+    /**
+     * Getting the invoker for a method, binding the method to the object if not done yet.
+     *
+     * @param obj  on which the execution should take place
+     * @param meth to be executed
+     * @return the {@link BenchmarkInvoker} bound to the object
+     */
+    private BenchmarkInvoker getInvoker(final Object obj, final Method meth) {
+        BenchmarkInvoker invoker = invokers.get(meth);
+        if (invoker == null || !invoker.isBoundTo(obj)) {
+            invoker = new BenchmarkInvoker(obj, meth);
+            invokers.put(meth, invoker);
+        }
+        return invoker;
+    }
+
     /**
      * Checking and executing several before/after methods.
      *
@@ -306,13 +1020,27 @@ public final class BenchmarkExecutor {
         final PerfidixMethodCheckException checkExc = checkMethod(obj, anno, meths);
         if (checkExc == null) {
             for (Method m : meths) {
-                final PerfidixMethodInvocationException invoExc = invokeMethod(obj, anno, m);
+                final PerfidixMethodInvocationException invoExc = getInvoker(obj, m).invoke(anno);
                 if (invoExc != null) {
-                    BENCHRES.addException(invoExc);
+                    result.addException(invoExc);
                 }
             }
         } else {
-            BENCHRES.addException(checkExc);
+            result.addException(checkExc);
+        }
+    }
+
+    /**
+     * Empty bench to calibrate the overhead of the harness and the meters.
+     */
+    static final class EmptyBench {
+
+        /**
+         * Empty bench method.
+         */
+        @Bench
+        public void bench() {
+            // nothing to do, only the overhead is measured
         }
     }
 
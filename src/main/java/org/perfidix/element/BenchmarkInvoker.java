@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.element;
+
+
+import org.perfidix.exceptions.PerfidixMethodInvocationException;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+
+/**
+ * Invoker binding one method to one object. The method is resolved once to a {@link MethodHandle} which is adapted to
+ * a fixed type so that each invocation takes place without reflective checks, boxing or allocation of argument arrays.
+ * If the method is not accessible as a {@link MethodHandle}, the invocation falls back to
+ * {@link BenchmarkExecutor#invokeMethod(Object, Class, Method, Object...)}.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class BenchmarkInvoker {
+
+    /**
+     * Object on which the invocation takes place.
+     */
+    private transient final Object obj;
+
+    /**
+     * Method to be invoked.
+     */
+    private transient final Method meth;
+
+    /**
+     * Handle to the method, either of type ()V or of type (Object[])V, null if not accessible.
+     */
+    private transient final MethodHandle handle;
+
+    /**
+     * Number of parameters of the method.
+     */
+    private transient final int arity;
+
+    /**
+     * Constructor, binding the method to the object.
+     *
+     * @param paramObj  on which the invocation takes place
+     * @param paramMeth to be invoked
+     */
+    BenchmarkInvoker(final Object paramObj, final Method paramMeth) {
+        obj = paramObj;
+        meth = paramMeth;
+        arity = paramMeth.getParameterTypes().length;
+        handle = bind(paramObj, paramMeth, arity);
+    }
+
+    /**
+     * Building the handle for a method.
+     *
+     * @param paramObj   on which the invocation takes place
+     * @param paramMeth  to be invoked
+     * @param paramArity number of parameters of the method
+     * @return the adapted handle or null if the method is not accessible
+     */
+    private static MethodHandle bind(final Object paramObj, final Method paramMeth, final int paramArity) {
+        try {
+            MethodHandle returnVal = MethodHandles.lookup().unreflect(paramMeth);
+            if (!Modifier.isStatic(paramMeth.getModifiers())) {
+                returnVal = returnVal.bindTo(paramObj);
+            }
+            if (paramArity == 0) {
+                returnVal = returnVal.asType(MethodType.methodType(void.class));
+            } else {
+                returnVal = returnVal.asSpreader(Object[].class, paramArity).asType(MethodType.methodType(void.class, Object[].class));
+            }
+            return returnVal;
+        } catch (final IllegalAccessException | IllegalArgumentException | ClassCastException e) {
+            // not bindable, reflective invocation takes place instead
+            return null;
+        }
+    }
+
+    /**
+     * Invoking the method.
+     *
+     * @param relatedAnno related annotation for the execution
+     * @param args        args for that method
+     * @return {@link PerfidixMethodInvocationException} if invocation fails, null otherwise.
+     */
+    PerfidixMethodInvocationException invoke(final Class<? extends Annotation> relatedAnno, final Object... args) {
+        if (handle == null || args.length != arity) {
+            return BenchmarkExecutor.invokeMethod(obj, relatedAnno, meth, args);
+        }
+        try {
+            if (arity == 0) {
+                handle.invokeExact();
+            } else {
+                handle.invokeExact(args);
+            }
+            return null;
+        } catch (final Throwable e) {
+            return new PerfidixMethodInvocationException(e, meth, relatedAnno);
+        }
+    }
+
+    /**
+     * Checking if this invoker is bound to the given object.
+     *
+     * @param paramObj to be checked
+     * @return true if the invocation takes place on this object, false otherwise
+     */
+    boolean isBoundTo(final Object paramObj) {
+        return obj == paramObj;
+    }
+
+}
@@ -26,6 +26,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class to mark one method which are possible benchmarkable. The method hold
@@ -62,11 +63,12 @@ public final class BenchmarkMethod {
 	 * @param paramMethod
 	 *            method to be benched (eventually)
 	 * @throws PerfidixMethodCheckException
-	 *             if method is not benchmarkable
+	 *             if method is not benchmarkable or its annotations are invalid
 	 */
 	public BenchmarkMethod(final Method paramMethod)
 			throws PerfidixMethodCheckException {
 		methodToBench = paramMethod;
+		checkThreads();
 		setDataProvider(findDataProvider());
 	}
 
@@ -101,6 +103,164 @@ public final class BenchmarkMethod {
 		return returnVal;
 	}
 
+	/**
+	 * Getting the number of warmup runs corresponding to a given method. The
+	 * method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises.
+	 *
+	 * @param meth
+	 *            to be checked
+	 * @return the number of warmup runs of this benchmarkable-method,
+	 *         {@link Bench#NONE_RUN} if not set
+	 */
+	public static int getNumberOfAnnotatedWarmupRuns(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Bench benchAnno = meth.getAnnotation(Bench.class);
+		int returnVal = Bench.NONE_RUN;
+		if (benchAnno != null) {
+			returnVal = benchAnno.warmupRuns();
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Getting the number of operations per run corresponding to a given
+	 * method. The method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises.
+	 *
+	 * @param meth
+	 *            to be checked
+	 * @return the number of operations per run of this benchmarkable-method,
+	 *         {@link Bench#NONE_RUN} if not set
+	 */
+	public static int getNumberOfAnnotatedOperations(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Bench benchAnno = meth.getAnnotation(Bench.class);
+		int returnVal = Bench.NONE_RUN;
+		if (benchAnno != null) {
+			returnVal = benchAnno.operations();
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Getting the minimum time in the annotated unit corresponding to a
+	 * given method. The method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises.
+	 *
+	 * @param meth
+	 *            to be checked
+	 * @return the minimum time of this benchmarkable-method,
+	 *         {@link Bench#NONE_RUN} if not set
+	 */
+	public static long getAnnotatedMinTime(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Bench benchAnno = meth.getAnnotation(Bench.class);
+		long returnVal = Bench.NONE_RUN;
+		if (benchAnno != null) {
+			returnVal = benchAnno.minTime();
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Getting the maximum time in the annotated unit corresponding to a
+	 * given method. The method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises.
+	 *
+	 * @param meth
+	 *            to be checked
+	 * @return the maximum time of this benchmarkable-method,
+	 *         {@link Bench#NONE_RUN} if not set
+	 */
+	public static long getAnnotatedMaxTime(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Bench benchAnno = meth.getAnnotation(Bench.class);
+		long returnVal = Bench.NONE_RUN;
+		if (benchAnno != null) {
+			returnVal = benchAnno.maxTime();
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Getting the unit of the minimum and the maximum time corresponding to a
+	 * given method. The method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises.
+	 * 
+	 * @param meth
+	 *            to be checked
+	 * @return the unit of the times of this benchmarkable-method
+	 */
+	public static TimeUnit getAnnotatedTimeUnit(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Bench benchAnno = meth.getAnnotation(Bench.class);
+		TimeUnit returnVal = TimeUnit.MILLISECONDS;
+		if (benchAnno != null) {
+			returnVal = benchAnno.timeUnit();
+		}
+		return returnVal;
+	}
+
+	/**
+	 * Getting the numbers of worker threads corresponding to a given method.
+	 * The method MUST be a benchmarkable method, otherwise an
+	 * IllegalStateException exception arises. If the {@link Threads}
+	 * annotation is given without numbers, the powers of two up to the number
+	 * of available processors are returned.
+	 *
+	 * @param meth
+	 *            to be checked
+	 * @return the numbers of threads, an empty array if the method should not
+	 *         be executed concurrently
+	 */
+	public static int[] getAnnotatedThreads(final Method meth) {
+		if (!isBenchmarkable(meth)) {
+			throw new IllegalArgumentException("Method " + meth
+					+ " must be a benchmarkable method.");
+		}
+		final Threads threadsAnno = meth.getAnnotation(Threads.class);
+		if (threadsAnno == null) {
+			return new int[0];
+		}
+		if (threadsAnno.value().length > 0) {
+			for (final int threads : threadsAnno.value()) {
+				if (threads < 1) {
+					throw new IllegalArgumentException("Method " + meth
+							+ " must be executed on at least one thread.");
+				}
+			}
+			return threadsAnno.value().clone();
+		}
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final List<Integer> sweep = new ArrayList<>();
+		for (int threads = 1; threads < processors; threads = threads * 2) {
+			sweep.add(threads);
+		}
+		sweep.add(processors);
+		final int[] returnVal = new int[sweep.size()];
+		for (int i = 0; i < returnVal.length; i++) {
+			returnVal[i] = sweep.get(i);
+		}
+		return returnVal;
+	}
+
 	/**
 	 * This class finds any method with a given annotation. The method is
 	 * allowed to occur only once in the class and should match the requirements
@@ -533,6 +693,30 @@ public final class BenchmarkMethod {
 		}
 	}
 
+	/**
+	 * This method checks whether the numbers of worker threads given by the
+	 * {@link Threads} annotation are positive.
+	 *
+	 * @throws PerfidixMethodCheckException
+	 *             if a number of threads is less than one
+	 */
+	private void checkThreads() throws PerfidixMethodCheckException {
+		final Threads threadsAnno = getMethodToBench().getAnnotation(
+				Threads.class);
+		if (threadsAnno != null) {
+			for (final int threads : threadsAnno.value()) {
+				if (threads < 1) {
+					throw new PerfidixMethodCheckException(
+							new IllegalArgumentException("Method "
+									+ getMethodToBench()
+									+ " must be executed on at least one thread, but "
+									+ threads + " are given."),
+							getMethodToBench(), Threads.class);
+				}
+			}
+		}
+	}
+
 	/**
 	 * This method checks whether a method uses a data provider for dynamic
 	 * input
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.element;
+
+
+import java.util.List;
+
+
+/**
+ * This class represents all runs of one {@link BenchmarkMethod}. Instead of holding one {@link BenchmarkElement} per
+ * run, the elements are created on demand while the arrangement is iterated, so that the memory footprint does not
+ * depend on the number of runs.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class BenchmarkRuns {
+
+    /**
+     * The BenchmarkMethod related to these runs.
+     */
+    private transient final BenchmarkMethod meth;
+
+    /**
+     * Number of runs.
+     */
+    private transient final int runs;
+
+    /**
+     * Parameter sets of the runs if dataprovider is used, null otherwise.
+     */
+    private transient final Object[][] parameters;
+
+    /**
+     * Already existing elements, null if the elements are created on demand.
+     */
+    private transient final List<BenchmarkElement> elements;
+
+    /**
+     * Constructor for a non-parameterized method.
+     *
+     * @param paramMeth the related {@link BenchmarkMethod}
+     * @param paramRuns number of runs
+     */
+    public BenchmarkRuns(final BenchmarkMethod paramMeth, final int paramRuns) {
+        meth = paramMeth;
+        runs = paramRuns;
+        parameters = null;
+        elements = null;
+    }
+
+    /**
+     * Constructor for a parameterized method, one run per parameter set.
+     *
+     * @param paramMeth       the related {@link BenchmarkMethod}
+     * @param paramParameters the parameter sets of the dataprovider
+     */
+    public BenchmarkRuns(final BenchmarkMethod paramMeth, final Object[][] paramParameters) {
+        meth = paramMeth;
+        runs = paramParameters.length;
+        parameters = paramParameters;
+        elements = null;
+    }
+
+    /**
+     * Constructor for already existing elements of one method.
+     *
+     * @param paramElements the elements, all related to the same {@link BenchmarkMethod}
+     */
+    BenchmarkRuns(final List<BenchmarkElement> paramElements) {
+        meth = paramElements.get(0).getMeth();
+        runs = paramElements.size();
+        parameters = null;
+        elements = paramElements;
+    }
+
+    /**
+     * Getting the {@link BenchmarkMethod} related to these runs.
+     *
+     * @return the meth
+     */
+    public BenchmarkMethod getMeth() {
+        return meth;
+    }
+
+    /**
+     * Getting the number of runs.
+     *
+     * @return the runs
+     */
+    public int size() {
+        return runs;
+    }
+
+    /**
+     * Checking if the runs differ from each other, either by their parameter set or by existing elements. Runs of a
+     * non-parameterized method are all alike, so their order does not matter.
+     *
+     * @return true if the runs are distinct, false otherwise
+     */
+    boolean isDistinct() {
+        return parameters != null || elements != null;
+    }
+
+    /**
+     * Getting the element of one run, created on demand if not already existing.
+     *
+     * @param index of the run
+     * @return the {@link BenchmarkElement} of the run
+     */
+    BenchmarkElement getElement(final int index) {
+        if (elements != null) {
+            return elements.get(index);
+        } else if (parameters != null) {
+            return new BenchmarkElement(meth, parameters[index]);
+        } else {
+            return new BenchmarkElement(meth);
+        }
+    }
+
+}
@@ -19,7 +19,7 @@
 package org.perfidix.element;
 
 
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 
 
@@ -35,23 +35,31 @@ public final class NoMethodArrangement extends AbstractMethodArrangement {
      * Constructor for no arrangement. That means that the order which is given as an input is also given back as the
      * output. The order is normally the order of occurrence of methods in the class.
      *
-     * @param elements with benchmarkable elements.
+     * @param runs with benchmarkable methods.
      */
-    NoMethodArrangement(final List<BenchmarkElement> elements) {
-        super(elements);
+    NoMethodArrangement(final List<BenchmarkRuns> runs) {
+        super(runs);
     }
 
     /**
-     * Not arranging the list in this case. That means normally that all elements are occuring in the same order than
-     * defined in the class-file.
+     * Not arranging the runs in this case. That means normally that all elements are occuring in the same order than
+     * defined in the class-file, all runs of one method after another.
      *
-     * @param elements to be arranged, or not in this case.
+     * @param runs to be arranged, or not in this case.
      * @return the input.
      */
     @Override
-    protected List<BenchmarkElement> arrangeList(final List<BenchmarkElement> elements) {
-        final List<BenchmarkElement> elementList = new LinkedList<BenchmarkElement>();
-        elementList.addAll(elements);
-        return elementList;
+    protected Iterator<BenchmarkElement> arrange(final List<BenchmarkRuns> runs) {
+        return new AbstractArrangementIterator(runs) {
+            private int current = 0;
+
+            @Override
+            protected int chooseRuns() {
+                while (getLeft(current) == 0) {
+                    current++;
+                }
+                return current;
+            }
+        };
     }
 }
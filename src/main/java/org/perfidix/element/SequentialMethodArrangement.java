@@ -20,7 +20,6 @@ package org.perfidix.element;
 
 
 import java.util.*;
-import java.util.Map.Entry;
 
 
 /**
@@ -45,82 +44,48 @@ public final class SequentialMethodArrangement extends AbstractMethodArrangement
     /**
      * Simple Constructor-
      *
-     * @param elements to be arranged
+     * @param runs to be arranged
      */
-    SequentialMethodArrangement(final List<BenchmarkElement> elements) {
-        super(elements);
+    SequentialMethodArrangement(final List<BenchmarkRuns> runs) {
+        super(runs);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected List<BenchmarkElement> arrangeList(final List<BenchmarkElement> elements) {
-        final Map<BenchmarkMethod, ArrayList<BenchmarkElement>> table = new Hashtable<BenchmarkMethod, ArrayList<BenchmarkElement>>();
-        final List<BenchmarkElement> returnVal = new ArrayList<BenchmarkElement>();
-
-        // Having a table
-        for (final BenchmarkElement elem : elements) {
-            if (!table.containsKey(elem.getMeth())) {
-                table.put(elem.getMeth(), new ArrayList<BenchmarkElement>());
-            }
-            table.get(elem.getMeth()).add(elem);
-        }
-
-        // Computing complete number of elements
-        int numberOfElements = 0;
-        for (final BenchmarkMethod meth : table.keySet()) {
-            numberOfElements = numberOfElements + table.get(meth).size();
-        }
-
+    protected Iterator<BenchmarkElement> arrange(final List<BenchmarkRuns> runs) {
         // Defining order to execute, start with the one with the most elements
-        final Set<Entry<BenchmarkMethod, ArrayList<BenchmarkElement>>> compareMethods = new TreeSet<Entry<BenchmarkMethod, ArrayList<BenchmarkElement>>>(new BenchmarkElementComparator());
-        for (final Entry<BenchmarkMethod, ArrayList<BenchmarkElement>> entry : table.entrySet()) {
-            compareMethods.add(entry);
-        }
+        final List<BenchmarkRuns> methods = new ArrayList<BenchmarkRuns>(runs);
+        Collections.sort(methods, new BenchmarkRunsComparator());
 
-        final ArrayList<BenchmarkMethod> methods = new ArrayList<BenchmarkMethod>();
-        for (Entry<BenchmarkMethod, ArrayList<BenchmarkElement>> entry : compareMethods) {
-            methods.add(entry.getKey());
-        }
+        return new AbstractArrangementIterator(methods) {
+            private int step = 0;
 
-        for (int i = 0; i < numberOfElements; i++) {
-            BenchmarkElement elem = null;
-            int indexPart = 0;
-            while (elem == null) {
-                final int index = (i + indexPart) % methods.size();
-                final BenchmarkMethod methodToInclude = methods.get(index);
-                if (table.containsKey(methodToInclude)) {
-                    elem = table.get(methodToInclude).remove(0);
-                    if (table.get(methodToInclude).size() == 0) {
-                        table.remove(methodToInclude);
-                    }
+            @Override
+            protected int chooseRuns() {
+                int index = step % getNumberOfRuns();
+                while (getLeft(index) == 0) {
+                    index = (index + 1) % getNumberOfRuns();
                 }
-                indexPart++;
+                step++;
+                return index;
             }
-            returnVal.add(elem);
-        }
-        return returnVal;
+        };
     }
 
     /**
-     * Comparator to compare the different entries according to the size of the underlaying arraylist
+     * Comparator to compare the different runs according to their size
      *
      * @author Sebastian Graf, University of Konstanz
      */
-    private class BenchmarkElementComparator implements Comparator<Entry<BenchmarkMethod, ArrayList<BenchmarkElement>>> {
+    private static class BenchmarkRunsComparator implements Comparator<BenchmarkRuns> {
 
         /**
          * {@inheritDoc}
          */
-        public int compare(final Entry<BenchmarkMethod, ArrayList<BenchmarkElement>> object1, final Entry<BenchmarkMethod, ArrayList<BenchmarkElement>> object2) {
-            int returnVal = 0;
-            if (object1.getValue().size() > object2.getValue().size()) {
-                returnVal = -1;
-            } else {
-                returnVal = 1;
-            }
-            return returnVal;
+        public int compare(final BenchmarkRuns object1, final BenchmarkRuns object2) {
+            return Integer.compare(object2.size(), object1.size());
         }
 
     }
@@ -19,8 +19,7 @@
 package org.perfidix.element;
 
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 
@@ -42,21 +41,60 @@ public final class ShuffleMethodArrangement extends AbstractMethodArrangement {
      * Constructor for shuffle arrangement. That means that the order which is given as an input is shuffled in a random
      * way and given back as the output. The order is complete randomlike and depends on a seed.
      *
-     * @param elements with benchmarkable elements.
+     * @param runs with benchmarkable methods.
      */
-    ShuffleMethodArrangement(final List<BenchmarkElement> elements) {
-        super(elements);
+    ShuffleMethodArrangement(final List<BenchmarkRuns> runs) {
+        super(runs);
     }
 
     /**
-     * {@inheritDoc}
+     * Drawing each element randomly out of all elements left. The method of the next element is chosen with a
+     * probability proportional to the elements left of this method, resulting in a random permutation of the methods
+     * without materializing all elements. The runs of a method differing in their parameter sets are shuffled as well,
+     * one swap of a Fisher-Yates shuffle per drawn element.
+     *
+     * @param runs to be arranged
+     * @return an iterator over the shuffled elements
      */
     @Override
-    protected List<BenchmarkElement> arrangeList(final List<BenchmarkElement> methods) {
+    protected Iterator<BenchmarkElement> arrange(final List<BenchmarkRuns> runs) {
         final Random ran = new Random(SEED);
-        final List<BenchmarkElement> inputList = new LinkedList<BenchmarkElement>();
-        inputList.addAll(methods);
-        Collections.shuffle(inputList, ran);
-        return inputList;
+        return new AbstractArrangementIterator(runs) {
+            /**
+             * Permutation of the runs of each method, null until the first element of distinct runs is drawn.
+             */
+            private final int[][] permutations = new int[runs.size()][];
+
+            @Override
+            protected int chooseRuns() {
+                // counting from the last runs like Collections.shuffle which fills from the end
+                int drawn = ran.nextInt(getLeft());
+                int index = getNumberOfRuns() - 1;
+                while (drawn >= getLeft(index)) {
+                    drawn = drawn - getLeft(index);
+                    index--;
+                }
+                return index;
+            }
+
+            @Override
+            protected int chooseRun(final int index, final int created) {
+                if (!getRuns(index).isDistinct()) {
+                    return created;
+                }
+                if (permutations[index] == null) {
+                    permutations[index] = new int[getRuns(index).size()];
+                    for (int i = 0; i < permutations[index].length; i++) {
+                        permutations[index][i] = i;
+                    }
+                }
+                final int[] perm = permutations[index];
+                final int swap = created + ran.nextInt(perm.length - created);
+                final int chosen = perm[swap];
+                perm[swap] = perm[created];
+                perm[created] = chosen;
+                return chosen;
+            }
+        };
     }
 }
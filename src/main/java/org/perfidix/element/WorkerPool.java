@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.element;
+
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Fixed pool of worker threads executing the runs of one bench method concurrently. The workers are started once and
+ * reused for all runs, so that neither the start of the threads nor a per-thread state of the meters is part of the
+ * measurement. For each run, all workers are released together and the pool waits until all of them are finished.
+ * A worker failing within a run stays alive, its failure is thrown by the run instead.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class WorkerPool {
+
+    /**
+     * Task executed by each worker, given the index of the worker.
+     */
+    interface Task {
+
+        /**
+         * Executing the task.
+         *
+         * @param index of the worker
+         */
+        void run(final int index);
+    }
+
+    /**
+     * The worker threads.
+     */
+    private transient final Thread[] workers;
+
+    /**
+     * Barrier releasing all workers for one run.
+     */
+    private transient final CyclicBarrier start;
+
+    /**
+     * Barrier waiting for all workers to finish one run.
+     */
+    private transient final CyclicBarrier done;
+
+    /**
+     * Task of the current run.
+     */
+    private transient volatile Task task;
+
+    /**
+     * Boolean to be sure that the workers stop.
+     */
+    private transient volatile boolean shutdown;
+
+    /**
+     * First failure of a worker within the current run, <code>null</code> if none failed.
+     */
+    private transient final AtomicReference<Throwable> failure;
+
+    /**
+     * Constructor, starting the workers and waiting until each of them has executed the given initialization.
+     *
+     * @param name        prefix of the names of the workers
+     * @param threadCount number of workers
+     * @param init        executed once by each worker before the first run
+     * @throws InterruptedException if interrupted while waiting for the workers
+     * @throws ExecutionException   if the initialization failed within a worker, the pool is shut down
+     */
+    WorkerPool(final String name, final int threadCount, final Task init) throws InterruptedException, ExecutionException {
+        workers = new Thread[threadCount];
+        failure = new AtomicReference<Throwable>();
+        start = new CyclicBarrier(threadCount + 1);
+        done = new CyclicBarrier(threadCount + 1);
+        final CountDownLatch ready = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            workers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        init.run(index);
+                    } catch (final Throwable e) {
+                        failure.compareAndSet(null, e);
+                        return;
+                    } finally {
+                        ready.countDown();
+                    }
+                    work(index);
+                }
+            }, name + "-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        ready.await();
+        final Throwable failed = failure.get();
+        if (failed != null) {
+            shutdown();
+            throw new ExecutionException(failed);
+        }
+    }
+
+    /**
+     * Loop of one worker, executing the task of each run until the pool is shut down.
+     *
+     * @param index of the worker
+     */
+    private void work(final int index) {
+        try {
+            while (true) {
+                start.await();
+                if (shutdown) {
+                    return;
+                }
+                try {
+                    task.run(index);
+                } catch (final Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+                done.await();
+            }
+        } catch (final InterruptedException | BrokenBarrierException e) {
+            // pool is shut down or broken, the worker ends
+        }
+    }
+
+    /**
+     * Executing one run, releasing all workers together with the given task and waiting until all of them are
+     * finished.
+     *
+     * @param paramTask to be executed by each worker
+     * @throws InterruptedException   if interrupted while waiting for the workers
+     * @throws BrokenBarrierException if the pool is broken by another interrupt
+     * @throws ExecutionException     if the task failed within a worker, the pool stays usable for the next run
+     */
+    void execute(final Task paramTask) throws InterruptedException, BrokenBarrierException, ExecutionException {
+        task = paramTask;
+        start.await();
+        done.await();
+        final Throwable failed = failure.getAndSet(null);
+        if (failed != null) {
+            throw new ExecutionException(failed);
+        }
+    }
+
+    /**
+     * Shutting down the pool, waiting until all workers are ended.
+     */
+    void shutdown() {
+        shutdown = true;
+        for (final Thread worker : workers) {
+            worker.interrupt();
+        }
+        boolean interrupted = false;
+        for (final Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
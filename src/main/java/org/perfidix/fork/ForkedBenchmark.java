@@ -0,0 +1,463 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.fork;
+
+
+import org.apache.commons.math.stat.descriptive.rank.Median;
+import org.perfidix.AbstractConfig;
+import org.perfidix.annotation.BenchClass;
+import org.perfidix.element.BenchmarkMethod;
+import org.perfidix.exceptions.AbstractPerfidixMethodException;
+import org.perfidix.exceptions.PerfidixMethodCheckException;
+import org.perfidix.exceptions.PerfidixMethodInvocationException;
+import org.perfidix.meter.AbstractMeter;
+import org.perfidix.result.BenchmarkResult;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Executing benchmarks in forked JVMs. Depending on the {@link KindOfFork} of the config, each registered class or
+ * each benchmarkable method is executed {@link AbstractConfig#getForks()} times in a fresh JVM started with
+ * {@link AbstractConfig#getJvmArgs()}. The records of each fork are read from its standard output and stored in the
+ * {@link BenchmarkResult} of the parent JVM, aggregating the results of all forks. Everything else printed within the
+ * forks is forwarded to {@link AbstractConfig#getForkOutput()}.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ForkedBenchmark {
+
+    /**
+     * Configuration of the benchmark.
+     */
+    private final AbstractConfig conf;
+
+    /**
+     * Classes to bench.
+     */
+    private final List<Class<?>> clazzes;
+
+    /**
+     * Names of the methods to bench, empty if all benchmarkable methods are benched.
+     */
+    private final Set<String> methodNames;
+
+    /**
+     * Stream the output of the forks is forwarded to, null if the output is discarded.
+     */
+    private final PrintStream output;
+
+    /**
+     * The meters of the config mapped to their keys within the records of the forks.
+     */
+    private final Map<String, AbstractMeter> meters;
+
+    /**
+     * Calibrated overheads of the meters, one per fork.
+     */
+    private final Map<AbstractMeter, List<Double>> overheads;
+
+    /**
+     * Constructor.
+     *
+     * @param paramConf        config of the benchmark, must be instantiable over a parameter-free constructor
+     * @param paramClazzes     classes to bench
+     * @param paramMethodNames names of the methods to bench, all benchmarkable methods are benched if none are given
+     */
+    public ForkedBenchmark(final AbstractConfig paramConf, final Iterable<Class<?>> paramClazzes, final String... paramMethodNames) {
+        conf = paramConf;
+        clazzes = new ArrayList<Class<?>>();
+        for (final Class<?> clazz : paramClazzes) {
+            clazzes.add(clazz);
+        }
+        methodNames = new HashSet<String>(Arrays.asList(paramMethodNames));
+        output = conf.getForkOutput();
+        meters = new HashMap<String, AbstractMeter>();
+        final AbstractMeter[] confMeters = conf.getMeters();
+        final String[] keys = ForkedRunner.getKeys(confMeters);
+        for (int i = 0; i < keys.length; i++) {
+            meters.put(keys[i], confMeters[i]);
+        }
+        overheads = new HashMap<AbstractMeter, List<Double>>();
+    }
+
+    /**
+     * Running all forks, storing their results to the given {@link BenchmarkResult}. If the methods to bench are
+     * restricted, classes without any of them are not forked at all.
+     *
+     * @param res where the results of all forks are stored to
+     * @return the given result
+     */
+    public BenchmarkResult run(final BenchmarkResult res) {
+        overheads.clear();
+        for (int i = 0; i < conf.getForks(); i++) {
+            for (final Class<?> clazz : clazzes) {
+                final List<String> names = getMethodNames(clazz);
+                if (conf.getKindOfFork() == KindOfFork.MethodFork) {
+                    for (final String name : names) {
+                        fork(res, clazz, name);
+                    }
+                } else if (methodNames.isEmpty()) {
+                    fork(res, clazz);
+                } else if (!names.isEmpty()) {
+                    fork(res, clazz, names.toArray(new String[names.size()]));
+                }
+            }
+        }
+        storeOverheads(res);
+        return res;
+    }
+
+    /**
+     * Getting the names of the benchmarkable methods of a class which are not excluded by the restriction.
+     *
+     * @param clazz class to bench
+     * @return the names of the methods to bench
+     */
+    private List<String> getMethodNames(final Class<?> clazz) {
+        final List<String> names = new ArrayList<String>();
+        for (final Method meth : clazz.getDeclaredMethods()) {
+            if (BenchmarkMethod.isBenchmarkable(meth) && (methodNames.isEmpty() || methodNames.contains(meth.getName()))) {
+                names.add(meth.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Storing the median of the calibrated overheads of all forks per meter.
+     *
+     * @param res where the overheads are stored to
+     */
+    void storeOverheads(final BenchmarkResult res) {
+        for (final Map.Entry<AbstractMeter, List<Double>> overhead : overheads.entrySet()) {
+            final double[] values = new double[overhead.getValue().size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = overhead.getValue().get(i);
+            }
+            res.setOverhead(overhead.getKey(), new Median().evaluate(values));
+        }
+    }
+
+    /**
+     * Executing one fork.
+     *
+     * @param res    where the results are stored to
+     * @param clazz  class to bench
+     * @param method optional names of the methods to bench
+     */
+    private void fork(final BenchmarkResult res, final Class<?> clazz, final String... method) {
+        final List<String> command = getCommand(clazz, method);
+        try {
+            final Process process = new ProcessBuilder(command).start();
+            process.getOutputStream().close();
+
+            final Thread errors = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                                process.getErrorStream(), Charset.defaultCharset()));
+                        String line = reader.readLine();
+                        while (line != null) {
+                            forward(line);
+                            line = reader.readLine();
+                        }
+                        reader.close();
+                    } catch (final IOException e) {
+                        // the fork is terminated, its exit code is checked
+                    }
+                }
+            }, "perfidix-fork-output");
+            errors.setDaemon(true);
+            errors.start();
+
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                    Charset.defaultCharset()));
+            String line = reader.readLine();
+            while (line != null) {
+                if (line.startsWith(ForkedRunner.PREFIX + ForkedRunner.SEPARATOR)) {
+                    try {
+                        receive(res, clazz, line.substring(ForkedRunner.PREFIX.length() + 1).split(ForkedRunner.SEPARATOR));
+                    } catch (final IllegalArgumentException e) {
+                        res.addException(new PerfidixMethodInvocationException(e, BenchClass.class));
+                    } catch (final PerfidixMethodCheckException e) {
+                        res.addException(e);
+                    }
+                } else {
+                    forward(line);
+                }
+                line = reader.readLine();
+            }
+            reader.close();
+
+            final int exit = process.waitFor();
+            errors.join();
+            if (exit != 0) {
+                res.addException(new PerfidixMethodInvocationException(new IllegalStateException("Forked JVM "
+                        + command + " terminated with exit code " + exit), BenchClass.class));
+            }
+        } catch (final IOException | InterruptedException e) {
+            res.addException(new PerfidixMethodInvocationException(e, BenchClass.class));
+        }
+    }
+
+    /**
+     * Forwarding a line printed within a fork to the stream of the config.
+     *
+     * @param line to be forwarded
+     */
+    private void forward(final String line) {
+        if (output != null) {
+            synchronized (output) {
+                output.println(line);
+            }
+        }
+    }
+
+    /**
+     * Getting the command line for a forked JVM.
+     *
+     * @param clazz  class to bench
+     * @param method optional names of the methods to bench
+     * @return the command line
+     */
+    List<String> getCommand(final Class<?> clazz, final String... method) {
+        final List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(Arrays.asList(conf.getJvmArgs()));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedRunner.class.getName());
+        command.add(conf.getClass().getName());
+        command.add(clazz.getName());
+        command.addAll(Arrays.asList(method));
+        return command;
+    }
+
+    /**
+     * Storing one record of a fork.
+     *
+     * @param res    where the record is stored to
+     * @param clazz  benchmarked class
+     * @param fields the fields of the record
+     * @throws PerfidixMethodCheckException if the related method is not benchmarkable
+     */
+    void receive(final BenchmarkResult res, final Class<?> clazz, final String... fields) throws PerfidixMethodCheckException {
+        final String kind = fields[0];
+        if (ForkedRunner.DATA.equals(kind)) {
+            final AbstractMeter meter = getMeter(fields[2]);
+            if (meter != null) {
+                res.addData(getBenchmarkMethod(clazz, fields[1]), meter, Double.parseDouble(fields[3]));
+            }
+        } else if (ForkedRunner.THREADED.equals(kind)) {
+            final AbstractMeter meter = getMeter(fields[4]);
+            if (meter != null) {
+                res.addData(getBenchmarkMethod(clazz, fields[1]), Integer.parseInt(fields[2]),
+                        Integer.parseInt(fields[3]), meter, Double.parseDouble(fields[5]));
+            }
+        } else if (ForkedRunner.AGGREGATES.equals(kind)) {
+            final AbstractMeter meter = getMeter(fields[2]);
+            if (meter != null) {
+                res.addAggregates(getBenchmarkMethod(clazz, fields[1]), meter, deserializeAggregates(fields[3]));
+            }
+        } else if (ForkedRunner.THREADED_AGGREGATES.equals(kind)) {
+            final AbstractMeter meter = getMeter(fields[4]);
+            if (meter != null) {
+                res.addAggregates(getBenchmarkMethod(clazz, fields[1]), Integer.parseInt(fields[2]),
+                        Integer.parseInt(fields[3]), meter, deserializeAggregates(fields[5]));
+            }
+        } else if (ForkedRunner.THROUGHPUT.equals(kind)) {
+            res.addThroughput(getBenchmarkMethod(clazz, fields[1]), Integer.parseInt(fields[2]),
+                    Long.parseLong(fields[3]), Long.parseLong(fields[4]));
+        } else if (ForkedRunner.RUNS.equals(kind)) {
+            res.addRuns(getBenchmarkMethod(clazz, fields[1]), Integer.parseInt(fields[2]), getRuns(fields, 3),
+                    getRuns(fields, 4));
+        } else if (ForkedRunner.OVERHEAD.equals(kind)) {
+            final AbstractMeter meter = getMeter(fields[1]);
+            if (meter != null) {
+                if (!overheads.containsKey(meter)) {
+                    overheads.put(meter, new ArrayList<Double>());
+                }
+                overheads.get(meter).add(Double.parseDouble(fields[2]));
+            }
+        } else if (ForkedRunner.CHECK.equals(kind) || ForkedRunner.INVOCATION.equals(kind)) {
+            res.addException(getException(clazz, fields));
+        }
+    }
+
+    /**
+     * Getting a meter of the config by its key within a record.
+     *
+     * @param field the key of the meter
+     * @return the meter, null if the key is not part of the config
+     */
+    private AbstractMeter getMeter(final String field) {
+        return meters.get(field);
+    }
+
+    /**
+     * Restoring the flags of runs out of a field.
+     *
+     * @param fields the fields of the record
+     * @param index  index of the field, trailing empty fields may be missing
+     * @return the flags of the runs
+     */
+    private static BitSet getRuns(final String[] fields, final int index) {
+        if (fields.length > index) {
+            return BitSet.valueOf(fromHex(fields[index]));
+        }
+        return new BitSet();
+    }
+
+    /**
+     * Restoring an exception record.
+     *
+     * @param clazz  benchmarked class
+     * @param fields the fields of the record
+     * @return the restored exception
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractPerfidixMethodException getException(final Class<?> clazz, final String... fields) {
+        final Method meth = getMethod(clazz, fields[1]);
+        Class<? extends Annotation> anno;
+        Throwable exec;
+        try {
+            anno = (Class<? extends Annotation>) Class.forName(fields[2]);
+            exec = deserialize(fields[3]);
+        } catch (final ClassNotFoundException | IOException e) {
+            anno = BenchClass.class;
+            exec = e;
+        }
+        if (ForkedRunner.CHECK.equals(fields[0])) {
+            return new PerfidixMethodCheckException(exec, meth, anno);
+        } else {
+            return new PerfidixMethodInvocationException(exec, meth, anno);
+        }
+    }
+
+    /**
+     * Deserializing a throwable out of its hex representation.
+     *
+     * @param hex the hex representation
+     * @return the throwable
+     * @throws IOException            if the throwable could not be read
+     * @throws ClassNotFoundException if the class of the throwable is not available
+     */
+    static Throwable deserialize(final String hex) throws IOException, ClassNotFoundException {
+        return (Throwable) readObject(hex);
+    }
+
+    /**
+     * Deserializing the aggregates of a result out of their hex representation.
+     *
+     * @param hex the hex representation
+     * @return the aggregates
+     */
+    static Serializable deserializeAggregates(final String hex) {
+        try {
+            return (Serializable) readObject(hex);
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Deserializing an object out of its hex representation.
+     *
+     * @param hex the hex representation
+     * @return the object
+     * @throws IOException            if the object could not be read
+     * @throws ClassNotFoundException if the class of the object is not available
+     */
+    private static Object readObject(final String hex) throws IOException, ClassNotFoundException {
+        final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(fromHex(hex)));
+        try {
+            return in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Converting a hex string to bytes.
+     *
+     * @param hex the hex representation
+     * @return the bytes
+     */
+    private static byte[] fromHex(final String hex) {
+        final byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ((Character.digit(hex.charAt(2 * i), 16) << 4) + Character.digit(hex.charAt(2 * i + 1), 16));
+        }
+        return bytes;
+    }
+
+    /**
+     * Getting a declared method by its name.
+     *
+     * @param clazz class declaring the method
+     * @param name  name of the method, may be empty
+     * @return the method, null if not existing
+     */
+    private static Method getMethod(final Class<?> clazz, final String name) {
+        for (final Method meth : clazz.getDeclaredMethods()) {
+            if (meth.getName().equals(name)) {
+                return meth;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Getting a benchmarkable method by its name.
+     *
+     * @param clazz class declaring the method
+     * @param name  name of the method
+     * @return the related {@link BenchmarkMethod}
+     * @throws PerfidixMethodCheckException if the method is not benchmarkable
+     */
+    private static BenchmarkMethod getBenchmarkMethod(final Class<?> clazz, final String name) throws PerfidixMethodCheckException {
+        for (final Method meth : clazz.getDeclaredMethods()) {
+            if (meth.getName().equals(name) && BenchmarkMethod.isBenchmarkable(meth)) {
+                return new BenchmarkMethod(meth);
+            }
+        }
+        throw new IllegalArgumentException("No benchmarkable method " + name + " in " + clazz);
+    }
+
+}
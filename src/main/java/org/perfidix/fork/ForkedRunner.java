@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.fork;
+
+
+import org.perfidix.AbstractConfig;
+import org.perfidix.Benchmark;
+import org.perfidix.annotation.BenchmarkConfig;
+import org.perfidix.element.BenchmarkMethod;
+import org.perfidix.exceptions.AbstractPerfidixMethodException;
+import org.perfidix.exceptions.PerfidixMethodCheckException;
+import org.perfidix.exceptions.PerfidixMethodInvocationException;
+import org.perfidix.meter.AbstractMeter;
+import org.perfidix.result.BenchmarkResult;
+import org.perfidix.result.ClassResult;
+import org.perfidix.result.ConcurrencyResult;
+import org.perfidix.result.KindOfStorage;
+import org.perfidix.result.MethodResult;
+import org.perfidix.result.ThreadResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+
+
+/**
+ * Entry point of a forked JVM. The benchmark class (and optionally a single method of it) is executed with a fresh
+ * instance of the given config and the results are written line by line to the standard output of the process, which
+ * is read by {@link ForkedBenchmark} in the parent JVM. Everything else printed by the benchmarks is redirected to the
+ * standard error.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ForkedRunner {
+
+    /**
+     * Prefix of each line containing a record, all other lines are no records.
+     */
+    static final String PREFIX = "#perfidix";
+
+    /**
+     * Separator of the fields of a record.
+     */
+    static final String SEPARATOR = "\t";
+
+    /**
+     * Record of a single measured value. Meters are identified within all records by their key, see
+     * {@link #getKeys(AbstractMeter[])}.
+     */
+    static final String DATA = "data";
+
+    /**
+     * Record of a single measured value of one worker thread.
+     */
+    static final String THREADED = "threaded";
+
+    /**
+     * Record of the serialized aggregates of one meter of a method, sent instead of the single values if the values
+     * are not kept.
+     */
+    static final String AGGREGATES = "aggregates";
+
+    /**
+     * Record of the serialized aggregates of one meter of one worker thread.
+     */
+    static final String THREADED_AGGREGATES = "threadedaggregates";
+
+    /**
+     * Record of the throughput of a concurrent execution.
+     */
+    static final String THROUGHPUT = "throughput";
+
+    /**
+     * Record of the runs of a method, the runs hit by a garbage collection and the runs taken while the JIT compiler
+     * was busy. The runs are flagged within bit sets, sent as hex string.
+     */
+    static final String RUNS = "runs";
+
+    /**
+     * Record of the calibrated overhead of a meter.
+     */
+    static final String OVERHEAD = "overhead";
+
+    /**
+     * Record of an exception occured within a check of a method.
+     */
+    static final String CHECK = "check";
+
+    /**
+     * Record of an exception occured within an invocation of a method.
+     */
+    static final String INVOCATION = "invocation";
+
+    /**
+     * Stream to the parent JVM.
+     */
+    private final PrintStream pipe;
+
+    /**
+     * Constructor.
+     *
+     * @param paramPipe stream to the parent JVM
+     */
+    ForkedRunner(final PrintStream paramPipe) {
+        pipe = paramPipe;
+    }
+
+    /**
+     * Main method of the forked JVM.
+     *
+     * @param args the name of the config class, the name of the benchmarked class and optionally the names of the
+     *             methods to bench
+     */
+    public static void main(final String[] args) {
+        final PrintStream pipe = System.out;
+        System.setOut(System.err);
+
+        final ForkedRunner runner = new ForkedRunner(pipe);
+        try {
+            final AbstractConfig conf = (AbstractConfig) Class.forName(args[0]).getDeclaredConstructor().newInstance();
+            final Benchmark bench = new Benchmark(conf);
+            bench.add(Class.forName(args[1]));
+            if (args.length > 2) {
+                bench.restrictToMethods(Arrays.copyOfRange(args, 2, args.length));
+            }
+            runner.send(bench.runInProcess(new BenchmarkResult(conf.getKindOfStorage())), conf.getMeters());
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException | NoSuchMethodException | ClassCastException e) {
+            runner.send(new PerfidixMethodInvocationException(e, BenchmarkConfig.class));
+        } catch (final InvocationTargetException e) {
+            runner.send(new PerfidixMethodInvocationException(e.getCause(), BenchmarkConfig.class));
+        }
+        pipe.flush();
+    }
+
+    /**
+     * Sending all results of a benchmark to the parent JVM. If the values are not kept, the aggregates of each meter
+     * are sent instead. The meters are identified by their keys, which are the same within the parent JVM.
+     *
+     * @param res    the result to be sent
+     * @param meters the meters of the config
+     */
+    void send(final BenchmarkResult res, final AbstractMeter... meters) {
+        final String[] keys = getKeys(meters);
+        // only kept values are sent one by one, running aggregates are sent at once
+        final boolean samples = res.getKindOfStorage() == KindOfStorage.Samples;
+        for (final ClassResult classRes : res.getIncludedResults()) {
+            for (final MethodResult methRes : classRes.getIncludedResults()) {
+                final String meth = ((BenchmarkMethod) methRes.getRelatedElement()).getMethodToBench().getName();
+                if (methRes.getIncludedResults().isEmpty()) {
+                    for (final AbstractMeter meter : methRes.getRegisteredMeters()) {
+                        final String key = keyOf(meters, keys, meter);
+                        if (samples) {
+                            for (final double value : methRes.getResultSet(meter)) {
+                                write(DATA, meth, key, Double.toString(value));
+                            }
+                        } else {
+                            write(AGGREGATES, meth, key, serializeAggregates(methRes.getAggregates(meter)));
+                        }
+                    }
+                } else {
+                    for (final ConcurrencyResult concRes : methRes.getIncludedResults()) {
+                        final String threads = Integer.toString(concRes.getNumberOfThreads());
+                        write(THROUGHPUT, meth, threads, Long.toString(concRes.getOperations()), Long.toString(concRes.getTime()));
+                        for (final ThreadResult threadRes : concRes.getIncludedResults()) {
+                            final String thread = threadRes.getRelatedElement().toString();
+                            for (final AbstractMeter meter : threadRes.getRegisteredMeters()) {
+                                final String key = keyOf(meters, keys, meter);
+                                if (samples) {
+                                    for (final double value : threadRes.getResultSet(meter)) {
+                                        write(THREADED, meth, threads, thread, key, Double.toString(value));
+                                    }
+                                } else {
+                                    write(THREADED_AGGREGATES, meth, threads, thread, key, serializeAggregates(threadRes.getAggregates(meter)));
+                                }
+                            }
+                        }
+                    }
+                }
+                write(RUNS, meth, Integer.toString(methRes.getNumberOfRuns()), toHex(methRes.getRunsHitByGc().toByteArray()), toHex(methRes.getRunsHitByJit().toByteArray()));
+            }
+        }
+        for (final Map.Entry<AbstractMeter, Double> overhead : res.getOverheads().entrySet()) {
+            write(OVERHEAD, keyOf(meters, keys, overhead.getKey()), Double.toString(overhead.getValue()));
+        }
+        for (final AbstractPerfidixMethodException exc : res.getExceptions()) {
+            send(exc);
+        }
+    }
+
+    /**
+     * Sending an exception to the parent JVM.
+     *
+     * @param exc the exception to be sent
+     */
+    void send(final AbstractPerfidixMethodException exc) {
+        final String kind = exc instanceof PerfidixMethodCheckException ? CHECK : INVOCATION;
+        final String meth = exc.getMethod() == null ? "" : exc.getMethod().getName();
+        write(kind, meth, exc.getRelatedAnno().getName(), serialize(exc.getExec()));
+    }
+
+    /**
+     * Getting the keys identifying the meters of a config within the records. The order of the meters is not the same
+     * within the parent and the forked JVM, the meters are therefore identified by their name and unit. Meters of the
+     * same name and unit are numbered in the order of their hash codes, which are stable across JVMs for such meters,
+     * e.g. for {@link org.perfidix.meter.FileMeter}s of different files.
+     *
+     * @param meters the meters of the config
+     * @return the keys, one per meter
+     */
+    static String[] getKeys(final AbstractMeter[] meters) {
+        final String[] keys = new String[meters.length];
+        for (int i = 0; i < meters.length; i++) {
+            final String name = meters[i].toString();
+            int rank = 0;
+            for (int j = 0; j < meters.length; j++) {
+                final int order = Integer.compare(meters[j].hashCode(), meters[i].hashCode());
+                if (meters[j].toString().equals(name) && (order < 0 || order == 0 && j < i)) {
+                    rank++;
+                }
+            }
+            keys[i] = rank == 0 ? name : name + "#" + rank;
+        }
+        return keys;
+    }
+
+    /**
+     * Getting the key of a meter of the config.
+     *
+     * @param meters the meters of the config
+     * @param keys   the keys of the meters
+     * @param meter  the meter to be found
+     * @return the key as field, empty if the meter is not part of the config
+     */
+    private static String keyOf(final AbstractMeter[] meters, final String[] keys, final AbstractMeter meter) {
+        for (int i = 0; i < meters.length; i++) {
+            if (meters[i] == meter) {
+                return keys[i];
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Writing one record.
+     *
+     * @param fields the fields of the record
+     */
+    private void write(final String... fields) {
+        final StringBuilder builder = new StringBuilder(PREFIX);
+        for (final String field : fields) {
+            builder.append(SEPARATOR).append(field);
+        }
+        pipe.println(builder.toString());
+    }
+
+    /**
+     * Serializing a throwable to a hex string. Throwables which are not serializable are replaced by an
+     * {@link IllegalStateException} with the same message and stacktrace.
+     *
+     * @param exec the throwable to be serialized
+     * @return the hex representation of the serialized throwable
+     */
+    static String serialize(final Throwable exec) {
+        byte[] bytes;
+        try {
+            bytes = toBytes(exec);
+        } catch (final IOException e) {
+            final IllegalStateException replacement = new IllegalStateException(exec.toString());
+            replacement.setStackTrace(exec.getStackTrace());
+            try {
+                bytes = toBytes(replacement);
+            } catch (final IOException e1) {
+                throw new IllegalStateException(e1);
+            }
+        }
+        return toHex(bytes);
+    }
+
+    /**
+     * Serializing the aggregates of a result to a hex string.
+     *
+     * @param aggregates the aggregates to be serialized
+     * @return the hex representation of the serialized aggregates
+     */
+    static String serializeAggregates(final Serializable aggregates) {
+        try {
+            return toHex(toBytes(aggregates));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Converting bytes to a hex string.
+     *
+     * @param bytes the bytes
+     * @return the hex representation of the bytes
+     */
+    static String toHex(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (final byte each : bytes) {
+            builder.append(Character.forDigit((each >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(each & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Serializing an object.
+     *
+     * @param obj the object to be serialized
+     * @return the serialized object
+     * @throws IOException if the object is not serializable
+     */
+    private static byte[] toBytes(final Serializable obj) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(obj);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+}
@@ -34,6 +34,46 @@ public abstract class AbstractMeter {
      */
     public abstract double getValue();
 
+    /**
+     * Checking if this meter offers a primitive raw value. Raw values are read without any conversion or allocation
+     * within the measured window and converted to the unit of this meter afterwards.
+     *
+     * @return true if {@link #getRawValue()} is supported, false otherwise
+     */
+    public boolean hasRawValue() {
+        return false;
+    }
+
+    /**
+     * Checking if this meter can be read by several threads at once, e.g. if classes are executed in parallel. Meters
+     * keeping a state between two readings which is shared by all threads are not thread-safe since the readings of
+     * one thread would disturb the readings of the others.
+     *
+     * @return true if this meter can be read by several threads at once, false otherwise
+     */
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Getting the current raw value for this meter, only supported if {@link #hasRawValue()} returns true.
+     *
+     * @return the current raw value
+     */
+    public long getRawValue() {
+        throw new UnsupportedOperationException(getName() + " offers no raw value");
+    }
+
+    /**
+     * Converting the difference of two raw values to the unit of this meter.
+     *
+     * @param rawDelta the difference of two raw values
+     * @return the difference in the unit of this meter
+     */
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta;
+    }
+
     /**
      * Returns the unit in which this measure taker computes its results.
      *
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Base of the meters reading the time consumed by the current thread from the {@link ThreadMXBean}. Contrary to the
+ * {@link TimeMeter}, the time of other threads preempting the current one is not measured. Since the time is always
+ * read for the thread executing the bench, each worker thread of a concurrent bench reads its own time and the data
+ * of all threads can be aggregated without counting the time of one thread twice. Threads started by the bench
+ * itself are not measured.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see CpuTimeMeter
+ * @see UserTimeMeter
+ */
+public abstract class AbstractThreadTimeMeter extends AbstractMeter {
+
+    /**
+     * The bean offering the times of the threads.
+     */
+    protected static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Instance of the enum <code>Time</code> for correct formatting of the time.
+     */
+    private transient final Time currentTime;
+
+    /**
+     * Constructor which is in need of a given time. The measurement of the thread times is checked once and enabled if
+     * necessary, the reading of the meter itself is not checked anymore.
+     *
+     * @param paramTime the time for the values.
+     * @throws UnsupportedOperationException if the JVM does not support the time of the current thread
+     */
+    protected AbstractThreadTimeMeter(final Time paramTime) {
+        super();
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("The JVM does not support the cpu time of the current thread");
+        }
+        if (!THREAD_BEAN.isThreadCpuTimeEnabled()) {
+            THREAD_BEAN.setThreadCpuTimeEnabled(true);
+        }
+        currentTime = paramTime;
+    }
+
+    /**
+     * Checking if the JVM supports the time of the current thread.
+     *
+     * @return true if supported, false otherwise
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN.isCurrentThreadCpuTimeSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the time of the current thread in nano seconds without any conversion.
+     *
+     * @return the time of the current thread in nano seconds
+     */
+    @Override
+    public abstract long getRawValue();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double convertRawValue(final long rawDelta) {
+        return rawDelta / currentTime.getNumberOfMilliSeconds();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getUnit() {
+        return currentTime.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getUnitDescription() {
+        return currentTime.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() {
+        final int prime = 31;
+        int result = prime + getClass().hashCode();
+        if (currentTime == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + currentTime.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final AbstractThreadTimeMeter other = (AbstractThreadTimeMeter) obj;
+        return currentTime == other.currentTime;
+    }
+
+}
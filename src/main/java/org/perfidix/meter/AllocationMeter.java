@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Meter to bench the exact amount of memory allocated by the thread executing the current Benchmark. Contrary to the
+ * {@link MemMeter}, the meter is not based on the used memory of the heap but on the bytes allocated by the current
+ * thread as offered by the {@link com.sun.management.ThreadMXBean}. The collection of garbage therefore does not
+ * influence the results, the data divided by the operations of a run is the number of bytes allocated per operation.
+ * Within concurrent benches, each worker thread reads its own allocations. The AllocationMeter is only usable with an
+ * instance of the {@link Memory} enumeration for formatting purposes.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see Memory
+ */
+public final class AllocationMeter extends AbstractMeter {
+
+    /**
+     * Name of the Meter.
+     */
+    private static final String NAME = "AllocationMeter";
+
+    /**
+     * The bean offering the allocated bytes of the threads.
+     */
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Scale of memory.
+     */
+    private transient final Memory scale;
+
+    /**
+     * The bean offering the allocated bytes, checked once within the constructor.
+     */
+    private transient final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Constructor. The measurement of the allocated bytes is checked once and enabled if necessary, the reading of
+     * the meter itself is not checked anymore.
+     *
+     * @param paramScale scale for this meter, can be any instance of Memory-enum
+     * @throws UnsupportedOperationException if the JVM does not support the allocated bytes of the threads
+     */
+    public AllocationMeter(final Memory paramScale) {
+        super();
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("The JVM does not support the allocated bytes of the threads");
+        }
+        allocationBean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.scale = paramScale;
+    }
+
+    /**
+     * Checking if the JVM supports the allocated bytes of the threads.
+     *
+     * @return true if supported, false otherwise
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) THREAD_BEAN).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the bytes allocated by the current thread without any conversion.
+     *
+     * @return the allocated bytes of the current thread
+     */
+    @Override
+    public long getRawValue() {
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / scale.getNumberOfBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return scale.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return scale.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime;
+        if (scale == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + scale.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final AllocationMeter other = (AllocationMeter) obj;
+        return scale == other.scale;
+    }
+
+}
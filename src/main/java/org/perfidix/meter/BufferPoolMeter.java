@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Meter to bench the memory used by the buffers of the direct or the mapped buffer pool, offered by the
+ * {@link BufferPoolMXBean}s. Contrary to the {@link MemMeter}, the memory is allocated outside of the heap, e.g. by
+ * <code>ByteBuffer.allocateDirect</code> or by <code>FileChannel.map</code>. The BufferPoolMeter is only usable with
+ * an instance of the {@link Memory} enumeration for formatting purposes.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see NativeMemoryMeter
+ * @see Memory
+ */
+public final class BufferPoolMeter extends AbstractMeter {
+
+    /**
+     * Pools of buffers.
+     */
+    public enum Pool {
+        /**
+         * Pool of the direct buffers.
+         */
+        Direct("direct"),
+        /**
+         * Pools of the mapped buffers, including the mapped non-volatile memory.
+         */
+        Mapped("mapped");
+
+        /**
+         * Prefix of the names of the pool beans.
+         */
+        private final String prefix;
+
+        /**
+         * Constructor.
+         *
+         * @param paramPrefix prefix of the names of the pool beans
+         */
+        private Pool(final String paramPrefix) {
+            prefix = paramPrefix;
+        }
+    }
+
+    /**
+     * Pool to be benched.
+     */
+    private transient final Pool pool;
+
+    /**
+     * Scale of memory.
+     */
+    private transient final Memory scale;
+
+    /**
+     * Beans of the pool, checked once.
+     */
+    private transient final BufferPoolMXBean[] beans;
+
+    /**
+     * Constructor.
+     *
+     * @param paramPool  pool to be benched
+     * @param paramScale scale for this meter, can be any instance of Memory-enum
+     */
+    public BufferPoolMeter(final Pool paramPool, final Memory paramScale) {
+        super();
+        pool = paramPool;
+        scale = paramScale;
+        final List<BufferPoolMXBean> poolBeans = new ArrayList<BufferPoolMXBean>();
+        for (final BufferPoolMXBean bean : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (bean.getName().startsWith(pool.prefix)) {
+                poolBeans.add(bean);
+            }
+        }
+        beans = poolBeans.toArray(new BufferPoolMXBean[poolBeans.size()]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the memory used by the buffers of the pool without any conversion.
+     *
+     * @return the used memory in bytes
+     */
+    @Override
+    public long getRawValue() {
+        long used = 0;
+        for (final BufferPoolMXBean bean : beans) {
+            used = used + Math.max(0, bean.getMemoryUsed());
+        }
+        return used;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / scale.getNumberOfBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return pool.name() + "BufferMeter";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return scale.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return scale.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime + pool.hashCode();
+        result = prime * result + ((scale == null) ? 0 : scale.hashCode());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final BufferPoolMeter other = (BufferPoolMeter) obj;
+        return pool == other.pool && scale == other.scale;
+    }
+
+}
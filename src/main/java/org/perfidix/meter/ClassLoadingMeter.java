@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Meter to bench the number of classes loaded or unloaded within the current Benchmark, offered by the
+ * {@link ClassLoadingMXBean}. The classes of all threads are counted, e.g. for measuring the startup work of
+ * classpath scanning or the initialization of serializers.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see MetaspaceMeter
+ */
+public final class ClassLoadingMeter extends AbstractMeter {
+
+    /**
+     * The bean offering the loaded classes.
+     */
+    private static final ClassLoadingMXBean CLASS_BEAN = ManagementFactory.getClassLoadingMXBean();
+
+    /**
+     * Flag if the unloaded classes are counted instead of the loaded ones.
+     */
+    private transient final boolean unloaded;
+
+    /**
+     * Constructor.
+     *
+     * @param paramUnloaded true if the unloaded classes should be counted, false for the loaded classes
+     */
+    public ClassLoadingMeter(final boolean paramUnloaded) {
+        super();
+        unloaded = paramUnloaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return getRawValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the number of loaded respectively unloaded classes.
+     *
+     * @return the number of classes since the start of the JVM
+     */
+    @Override
+    public long getRawValue() {
+        if (unloaded) {
+            return CLASS_BEAN.getUnloadedClassCount();
+        }
+        return CLASS_BEAN.getTotalLoadedClassCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return unloaded ? "ClassUnloadingMeter" : "ClassLoadingMeter";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return "classes";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return unloaded ? "Number of unloaded classes" : "Number of loaded classes";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return getName().hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return unloaded == ((ClassLoadingMeter) obj).unloaded;
+    }
+
+}
@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+
+
+/**
+ * Meter to bench the events of the JIT compiler within the current Benchmark, parsed out of a local log in the format
+ * of <code>-XX:+PrintCompilation</code>, e.g. the redirected standard output of a forked JVM. Each reading parses the
+ * lines appended to the log since the last reading, either the compilations or the deoptimizations (methods made not
+ * entrant) are counted. Since the JVM writes the log asynchronously, events are attributed to the run within which
+ * they are written. A log not existing yet contains no events. The log is kept open between the readings until the
+ * meter is closed.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see CompilationMeter
+ */
+public final class CompilationLogMeter extends AbstractMeter implements Closeable {
+
+    /**
+     * Kind of the counted events.
+     */
+    public enum Event {
+        /**
+         * Compilations of methods, including on-stack replacements.
+         */
+        Compilation("CompilationLogMeter", "compilations"),
+        /**
+         * Deoptimizations, meaning methods made not entrant.
+         */
+        Deoptimization("DeoptimizationLogMeter", "deoptimizations");
+
+        /**
+         * Name of the meter counting these events.
+         */
+        private final String name;
+
+        /**
+         * Unit of the meter counting these events.
+         */
+        private final String unit;
+
+        /**
+         * Constructor.
+         *
+         * @param paramName name of the meter
+         * @param paramUnit unit of the meter
+         */
+        private Event(final String paramName, final String paramUnit) {
+            name = paramName;
+            unit = paramUnit;
+        }
+    }
+
+    /**
+     * Marker of a compiled method within a line.
+     */
+    private static final byte[] METHOD_MARKER = ascii("::");
+
+    /**
+     * Marker of a state change of a compiled method within a line, e.g. made not entrant or made zombie.
+     */
+    private static final byte[] STATE_MARKER = ascii("made ");
+
+    /**
+     * Marker of a deoptimization within a line.
+     */
+    private static final byte[] DEOPT_MARKER = ascii("made not entrant");
+
+    /**
+     * Size of the reusable read buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Log to be parsed.
+     */
+    private final File log;
+
+    /**
+     * Kind of the counted events.
+     */
+    private transient final Event event;
+
+    /**
+     * Reusable buffer for reading the log.
+     */
+    private transient final byte[] buffer;
+
+    /**
+     * The log kept open between the readings, null if not opened yet or closed.
+     */
+    private transient RandomAccessFile file;
+
+    /**
+     * Position of the next reading within the log.
+     */
+    private transient long position;
+
+    /**
+     * Number of counted events.
+     */
+    private transient long events;
+
+    /**
+     * Matched bytes of the method marker within the current line, the line may span several readings.
+     */
+    private transient int methodMatch;
+
+    /**
+     * Matched bytes of the marker excluding (compilations) or including (deoptimizations) a line within the current
+     * line.
+     */
+    private transient int markerMatch;
+
+    /**
+     * Constructor.
+     *
+     * @param paramLog   log in the format of <code>-XX:+PrintCompilation</code>
+     * @param paramEvent kind of the counted events
+     */
+    public CompilationLogMeter(final File paramLog, final Event paramEvent) {
+        super();
+        log = paramLog;
+        event = paramEvent;
+        buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Converting a marker to its bytes. The markers are ASCII, matching the bytes of all ASCII-compatible charsets.
+     *
+     * @param marker the marker
+     * @return the bytes of the marker
+     */
+    private static byte[] ascii(final String marker) {
+        return marker.getBytes(Charset.forName("US-ASCII"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return getRawValue();
+    }
+
+    /**
+     * Each reading consumes the events since the last reading, shared by all threads.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Parsing the lines appended to the log since the last reading. The log is opened once and kept open until this
+     * meter is closed, the bytes are matched against the markers directly without decoding the lines.
+     *
+     * @return the number of counted events since the creation of this meter
+     * @throws IllegalStateException if the log could not be read
+     */
+    @Override
+    public synchronized long getRawValue() {
+        try {
+            if (file == null) {
+                if (!log.isFile()) {
+                    return events;
+                }
+                file = new RandomAccessFile(log, "r");
+            }
+            if (file.length() < position) {
+                // log was rotated
+                position = 0;
+                methodMatch = 0;
+                markerMatch = 0;
+            }
+            file.seek(position);
+            int read = file.read(buffer);
+            while (read > 0) {
+                parse(read);
+                position = position + read;
+                read = file.read(buffer);
+            }
+        } catch (final FileNotFoundException e) {
+            return events;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return events;
+    }
+
+    /**
+     * Closing the log. It is opened again by the next reading, continuing after the last parsed line.
+     *
+     * @throws IOException if the log could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (file != null) {
+            file.close();
+            file = null;
+        }
+    }
+
+    /**
+     * Parsing the read bytes of the buffer, each completed line is checked for an event.
+     *
+     * @param length number of read bytes
+     */
+    private void parse(final int length) {
+        final byte[] marker = event == Event.Deoptimization ? DEOPT_MARKER : STATE_MARKER;
+        for (int i = 0; i < length; i++) {
+            final byte current = buffer[i];
+            if (current == '\n') {
+                if (isEvent()) {
+                    events++;
+                }
+                methodMatch = 0;
+                markerMatch = 0;
+            } else {
+                methodMatch = match(METHOD_MARKER, methodMatch, current);
+                markerMatch = match(marker, markerMatch, current);
+            }
+        }
+    }
+
+    /**
+     * Matching one byte of a line against a marker. Once the marker is matched completely, the match is kept until
+     * the end of the line. The first byte of a marker must not occur within the rest of the marker except for repeated
+     * first bytes, so that a mismatch only restarts at the current byte.
+     *
+     * @param marker  the marker
+     * @param matched number of matched bytes of the marker so far
+     * @param current the current byte
+     * @return the number of matched bytes including the current byte
+     */
+    private static int match(final byte[] marker, final int matched, final byte current) {
+        if (matched == marker.length) {
+            return matched;
+        }
+        if (marker[matched] == current) {
+            return matched + 1;
+        }
+        return marker[0] == current ? 1 : 0;
+    }
+
+    /**
+     * Checking if the completed line is an event of the counted kind.
+     *
+     * @return true if the line is a counted event, false otherwise
+     */
+    private boolean isEvent() {
+        if (methodMatch < METHOD_MARKER.length) {
+            return false;
+        }
+        if (event == Event.Deoptimization) {
+            return markerMatch == DEOPT_MARKER.length;
+        }
+        return markerMatch < STATE_MARKER.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return event.name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return event.unit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return "Number of " + event.unit + " of the JIT compiler";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime + event.hashCode();
+        result = prime * result + ((log == null) ? 0 : log.hashCode());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final CompilationLogMeter other = (CompilationLogMeter) obj;
+        return event == other.event && (log == null ? other.log == null : log.equals(other.log));
+    }
+
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Meter to bench the time the JIT compiler spent compiling within the current Benchmark, offered by the
+ * {@link CompilationMXBean}. The compiler works on background threads, the time is therefore not a part of the time
+ * of the bench but shows that the compiled code of the bench or its callees may have changed within a run. The time is
+ * offered in milli seconds, finer units are only a conversion. The CompilationMeter is in need of an instance of the
+ * {@link Time} enumeration to give back the suitable time.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see CompilationLogMeter
+ * @see Time
+ */
+public final class CompilationMeter extends AbstractMeter {
+
+    /**
+     * Name of the Meter.
+     */
+    private static final String NAME = "CompilationMeter";
+
+    /**
+     * Number of nano seconds in one milli second.
+     */
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    /**
+     * The bean of the JIT compiler, null if the JVM has no compiler.
+     */
+    private static final CompilationMXBean COMPILATION_BEAN = ManagementFactory.getCompilationMXBean();
+
+    /**
+     * Flag if the compilation time is monitored, checked once.
+     */
+    private static final boolean SUPPORTED = COMPILATION_BEAN != null && COMPILATION_BEAN.isCompilationTimeMonitoringSupported();
+
+    /**
+     * Instance of the enum <code>Time</code> for correct formatting of the time.
+     */
+    private transient final Time currentTime;
+
+    /**
+     * Constructor which is in need of a given time.
+     *
+     * @param paramTime the time for the values.
+     * @throws UnsupportedOperationException if the JVM does not monitor the compilation time
+     */
+    public CompilationMeter(final Time paramTime) {
+        super();
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("The JVM does not monitor the compilation time");
+        }
+        currentTime = paramTime;
+    }
+
+    /**
+     * Checking if the JVM monitors the compilation time.
+     *
+     * @return true if supported, false otherwise
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Getting the accumulated time of the JIT compiler.
+     *
+     * @return the time of all compilations since the start of the JVM in milli seconds, 0 if not supported
+     */
+    public static long getTotalCompilationTime() {
+        if (SUPPORTED) {
+            return COMPILATION_BEAN.getTotalCompilationTime();
+        }
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the time of all compilations in milli seconds without any conversion.
+     *
+     * @return the time of all compilations in milli seconds
+     */
+    @Override
+    public long getRawValue() {
+        return COMPILATION_BEAN.getTotalCompilationTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta * NANOS_PER_MILLI / currentTime.getNumberOfMilliSeconds();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return currentTime.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return currentTime.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime;
+        if (currentTime == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + currentTime.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final CompilationMeter other = (CompilationMeter) obj;
+        return currentTime == other.currentTime;
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ThreadInfo;
+
+
+/**
+ * Small enum to store the kinds of contention of a thread, offered by the {@link java.lang.management.ThreadMXBean}.
+ * The bean offers the contention of a thread only within a {@link ThreadInfo}, so each reading of the meters allocates
+ * one info including the names of the thread and of the lock it waits for. The allocation happens within the measured
+ * window and is therefore seen by meters of the allocations or the garbage collection, registered together with
+ * these meters.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see ContentionCountMeter
+ * @see ContentionTimeMeter
+ */
+public enum Contention {
+
+    /**
+     * Enum for blocking, meaning waiting to enter or reenter a monitor of a <code>synchronized</code> block.
+     */
+    Blocked("blocked"),
+    /**
+     * Enum for waiting, meaning <code>Object.wait</code>, <code>Thread.join</code>, <code>LockSupport.park</code> and
+     * therefore the locks of <code>java.util.concurrent</code>.
+     */
+    Waited("waited");
+
+    /**
+     * The description of the contention.
+     */
+    private final String description;
+
+    /**
+     * The constructor for the contentions.
+     *
+     * @param paramDescription to give
+     */
+    private Contention(final String paramDescription) {
+        description = paramDescription;
+    }
+
+    /**
+     * Getting the description.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Getting the number of contentions out of the info of a thread.
+     *
+     * @param info the info of the thread
+     * @return the number of contentions
+     */
+    long getCount(final ThreadInfo info) {
+        return this == Blocked ? info.getBlockedCount() : info.getWaitedCount();
+    }
+
+    /**
+     * Getting the time of contentions out of the info of a thread.
+     *
+     * @param info the info of the thread
+     * @return the time of contentions in milli seconds
+     */
+    long getTime(final ThreadInfo info) {
+        return this == Blocked ? info.getBlockedTime() : info.getWaitedTime();
+    }
+
+}
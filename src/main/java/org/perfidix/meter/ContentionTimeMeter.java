@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+
+/**
+ * Meter to bench how long the thread executing the current Benchmark was blocked or waited, offered by the
+ * {@link ThreadMXBean}. Each worker thread of a concurrent bench reads its own contention. The time is offered in milli
+ * seconds, finer units are only a conversion. The ContentionTimeMeter is in need of an instance of the
+ * {@link Contention} and the {@link Time} enumeration.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see Contention
+ * @see ContentionCountMeter
+ */
+public final class ContentionTimeMeter extends AbstractMeter {
+
+    /**
+     * The bean offering the contention of the threads.
+     */
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Number of nano seconds in one milli second.
+     */
+    private static final double NANOS_PER_MILLI = 1000000d;
+
+    /**
+     * Kind of the contention.
+     */
+    private transient final Contention contention;
+
+    /**
+     * Instance of the enum <code>Time</code> for correct formatting of the time.
+     */
+    private transient final Time currentTime;
+
+    /**
+     * Constructor. The contention monitoring is checked once and enabled if necessary, the reading of the meter
+     * itself is not checked anymore.
+     *
+     * @param paramContention kind of the contention
+     * @param paramTime       the time for the values.
+     * @throws UnsupportedOperationException if the JVM does not support the contention monitoring
+     */
+    public ContentionTimeMeter(final Contention paramContention, final Time paramTime) {
+        super();
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("The JVM does not support the contention monitoring");
+        }
+        if (!THREAD_BEAN.isThreadContentionMonitoringEnabled()) {
+            THREAD_BEAN.setThreadContentionMonitoringEnabled(true);
+        }
+        contention = paramContention;
+        currentTime = paramTime;
+    }
+
+    /**
+     * Checking if the JVM supports the contention monitoring.
+     *
+     * @return true if supported, false otherwise
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN.isThreadContentionMonitoringSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the time of contentions of the current thread in milli seconds without any conversion. The reading
+     * allocates a {@link java.lang.management.ThreadInfo}, see {@link Contention}.
+     *
+     * @return the time of contentions since the monitoring was enabled in milli seconds
+     */
+    @Override
+    public long getRawValue() {
+        return contention.getTime(THREAD_BEAN.getThreadInfo(Thread.currentThread().getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta * NANOS_PER_MILLI / currentTime.getNumberOfMilliSeconds();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return contention.name() + "TimeMeter";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return currentTime.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return currentTime.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime + ((contention == null) ? 0 : contention.hashCode());
+        result = prime * result + ((currentTime == null) ? 0 : currentTime.hashCode());
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ContentionTimeMeter other = (ContentionTimeMeter) obj;
+        return contention == other.contention && currentTime == other.currentTime;
+    }
+
+}
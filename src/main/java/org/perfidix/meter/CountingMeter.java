@@ -98,6 +98,16 @@ public final class CountingMeter extends AbstractMeter {
         counter = 0;
     }
 
+    /**
+     * Each reading increments the counter, shared by all threads.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Getting the name of this CountingMeter.
      *
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+/**
+ * Meter to bench the cpu time, meaning the time in user and system mode, consumed by the thread executing the
+ * current Benchmark. The meter is in need of an instance of the {@link Time} enumeration to give back the suitable
+ * time.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see Time
+ * @see AbstractThreadTimeMeter
+ */
+public final class CpuTimeMeter extends AbstractThreadTimeMeter {
+
+    /**
+     * Name of the Meter.
+     */
+    private static final String NAME = "CpuTimeMeter";
+
+    /**
+     * Constructor which is in need of a given time.
+     *
+     * @param paramTime the time for the values.
+     */
+    public CpuTimeMeter(final Time paramTime) {
+        super(paramTime);
+    }
+
+    /**
+     * Getting the cpu time of the current thread in nano seconds without any conversion.
+     *
+     * @return the cpu time of the current thread in nano seconds
+     */
+    @Override
+    public long getRawValue() {
+        return THREAD_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
@@ -1,17 +1,22 @@
 package org.perfidix.meter;
 
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 
 
 /**
- * File meter for measuring the size of a file or directory registered beforehand.
+ * File meter for measuring the size of a file or directory registered beforehand. Per default, the whole tree is
+ * traversed on each reading. In the incremental mode, the sizes are cached in a {@link FileSizeIndex} updated out of
+ * the events of the file system, a reading costs in the order of the changed files instead. Closing the meter
+ * releases the index, the next reading walks the tree again and builds a new one.
  *
  * @author Sebastian Graf, University of Konstanz
  */
-public class FileMeter extends AbstractMeter {
+public class FileMeter extends AbstractMeter implements Closeable {
 
     /**
      * Static name of meter.
@@ -28,6 +33,16 @@ public class FileMeter extends AbstractMeter {
      */
     private transient final Memory mScale;
 
+    /**
+     * Flag if the sizes are cached and updated out of the events of the file system.
+     */
+    private final boolean mIncremental;
+
+    /**
+     * Cached sizes of the incremental mode, null if the tree is traversed on each reading or the meter was closed.
+     */
+    private transient FileSizeIndex mIndex;
+
     /**
      * Constructor.
      *
@@ -35,9 +50,57 @@ public class FileMeter extends AbstractMeter {
      * @param pScale for returning the data
      */
     public FileMeter(final File pFile, final Memory pScale) {
+        this(pFile, pScale, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pFile        to be evaluated, is going to be traversed recursively
+     * @param pScale       for returning the data
+     * @param pIncremental true if the sizes should be cached and updated out of the events of the file system, false
+     *                     if the tree should be traversed on each reading
+     * @throws IllegalStateException if the tree could not be watched in the incremental mode
+     */
+    public FileMeter(final File pFile, final Memory pScale, final boolean pIncremental) {
         super();
         mFile = pFile;
         mScale = pScale;
+        mIncremental = pIncremental;
+        if (mIncremental) {
+            getIndex();
+        }
+    }
+
+    /**
+     * Getting the index of the incremental mode, building it again if the meter was closed.
+     *
+     * @return the index
+     * @throws IllegalStateException if the tree could not be watched
+     */
+    private synchronized FileSizeIndex getIndex() {
+        if (mIndex == null) {
+            try {
+                mIndex = new FileSizeIndex(mFile.toPath());
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return mIndex;
+    }
+
+    /**
+     * Closing the index of the incremental mode, the next reading builds a new one.
+     *
+     * @throws IOException if the index could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (mIndex != null) {
+            final FileSizeIndex index = mIndex;
+            mIndex = null;
+            index.close();
+        }
     }
 
     private static long iterateRecursive(final File pFile) {
@@ -58,10 +121,44 @@ public class FileMeter extends AbstractMeter {
      */
     @Override
     public double getValue() {
-        long size = iterateRecursive(mFile);
+        long size = getRawValue();
         return new BigDecimal(size, MathContext.DECIMAL128).divide(new BigDecimal(mScale.getNumberOfBytes()), MathContext.DECIMAL128).doubleValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the size of the file or directory in bytes.
+     *
+     * @return the size in bytes
+     * @throws IllegalStateException if the changed files could not be read in the incremental mode
+     */
+    @Override
+    public long getRawValue() {
+        if (!mIncremental) {
+            return iterateRecursive(mFile);
+        }
+        try {
+            return getIndex().getSize();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / mScale.getNumberOfBytes();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Cached index of the sizes of all files within a directory tree, used by the {@link FileMeter}. The tree is walked
+ * once, afterwards the index is updated incrementally out of the events of a {@link WatchService} registered at each
+ * directory. Updating the index therefore costs in the order of the changed files. Since the events are delivered
+ * asynchronously by the file system, changes are reflected as soon as their events are delivered. If events got lost,
+ * the whole tree is walked again. Closing the index closes the {@link WatchService}, cancelling the registrations of
+ * all directories.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class FileSizeIndex implements Closeable {
+
+    /**
+     * Root of the tree.
+     */
+    private final Path mRoot;
+
+    /**
+     * Service delivering the events of all directories.
+     */
+    private final WatchService mWatcher;
+
+    /**
+     * Marker of a subdirectory within the entries of a directory.
+     */
+    private static final long DIRECTORY = -1;
+
+    /**
+     * Sizes of the files per directory, subdirectories are marked by {@link #DIRECTORY}.
+     */
+    private final Map<Path, Map<Path, Long>> mDirectories;
+
+    /**
+     * Size of all files within the tree.
+     */
+    private long mSize;
+
+    /**
+     * Constructor, walking the tree once.
+     *
+     * @param pRoot root of the tree, either a directory or a file
+     * @throws IOException if the tree could not be walked or watched
+     */
+    FileSizeIndex(final Path pRoot) throws IOException {
+        mRoot = pRoot;
+        mWatcher = FileSystems.getDefault().newWatchService();
+        mDirectories = new HashMap<Path, Map<Path, Long>>();
+        add(mRoot);
+    }
+
+    /**
+     * Getting the size of all files after processing all delivered events.
+     *
+     * @return the size in bytes
+     * @throws IOException if the changed files could not be read
+     */
+    synchronized long getSize() throws IOException {
+        WatchKey key = mWatcher.poll();
+        while (key != null) {
+            final Path dir = (Path) key.watchable();
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    rebuild();
+                    key.reset();
+                    return mSize;
+                }
+                final Path child = dir.resolve((Path) event.context());
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                    remove(dir, child);
+                } else if (Files.isDirectory(child)) {
+                    if (!mDirectories.containsKey(child)) {
+                        add(child);
+                    }
+                } else {
+                    update(dir, child);
+                }
+            }
+            key.reset();
+            key = mWatcher.poll();
+        }
+        if (!Files.isDirectory(mRoot)) {
+            // a single file is not watched itself
+            mSize = Files.exists(mRoot) ? Files.size(mRoot) : 0;
+        }
+        return mSize;
+    }
+
+    /**
+     * Closing the index, the sizes cannot be read afterwards.
+     *
+     * @throws IOException if the watch service could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        mWatcher.close();
+        mDirectories.clear();
+        mSize = 0;
+    }
+
+    /**
+     * Adding a file or a tree to the index, registering all directories.
+     *
+     * @param pPath the root of the added tree
+     * @throws IOException if the tree could not be walked
+     */
+    private void add(final Path pPath) throws IOException {
+        if (!Files.exists(pPath)) {
+            return;
+        }
+        Files.walkFileTree(pPath, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                try {
+                    dir.register(mWatcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                } catch (final ClosedWatchServiceException e) {
+                    throw new IOException(e);
+                }
+                mDirectories.put(dir, new HashMap<Path, Long>());
+                final Map<Path, Long> parent = mDirectories.get(dir.getParent());
+                if (parent != null) {
+                    parent.put(dir, DIRECTORY);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                final Map<Path, Long> parent = mDirectories.get(file.getParent());
+                if (parent != null && !attrs.isDirectory()) {
+                    parent.put(file, attrs.size());
+                    mSize = mSize + attrs.size();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                // the file was deleted within the walk
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Updating the size of a created or modified file.
+     *
+     * @param pDir  directory of the file
+     * @param pFile the file
+     * @throws IOException if the size could not be read
+     */
+    private void update(final Path pDir, final Path pFile) throws IOException {
+        final Map<Path, Long> parent = mDirectories.get(pDir);
+        if (parent == null) {
+            return;
+        }
+        long size;
+        try {
+            size = Files.size(pFile);
+        } catch (final NoSuchFileException e) {
+            // deleted afterwards, the delete event follows
+            size = 0;
+        }
+        final Long old = parent.put(pFile, size);
+        mSize = mSize + size - (old == null ? 0 : old);
+    }
+
+    /**
+     * Removing a deleted file or a deleted tree out of the index.
+     *
+     * @param pDir   directory of the deleted path
+     * @param pChild the deleted path
+     */
+    private void remove(final Path pDir, final Path pChild) {
+        final Map<Path, Long> parent = mDirectories.get(pDir);
+        if (parent != null) {
+            final Long old = parent.remove(pChild);
+            if (old != null && old != DIRECTORY) {
+                mSize = mSize - old;
+            }
+        }
+        final Map<Path, Long> removedDir = mDirectories.remove(pChild);
+        if (removedDir != null) {
+            for (final Map.Entry<Path, Long> entry : removedDir.entrySet()) {
+                if (entry.getValue() == DIRECTORY) {
+                    remove(pChild, entry.getKey());
+                } else {
+                    mSize = mSize - entry.getValue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Walking the whole tree again.
+     *
+     * @throws IOException if the tree could not be walked
+     */
+    private void rebuild() throws IOException {
+        mDirectories.clear();
+        mSize = 0;
+        add(mRoot);
+    }
+
+}
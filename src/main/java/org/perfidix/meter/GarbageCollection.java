@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Access to the activity of the garbage collectors of the JVM, the base of the gc meters. The number and the time of
+ * the collections are read from the {@link GarbageCollectorMXBean}s directly. The reclaimed and the promoted bytes are
+ * accumulated out of the notifications of the collectors which are registered with the first access. Since the
+ * notifications are sent asynchronously, a collection is attributed to the run within which the notification is received.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see GcCountMeter
+ * @see GcTimeMeter
+ * @see GcReclaimedMeter
+ * @see GcPromotedMeter
+ */
+public final class GarbageCollection {
+
+    /**
+     * The beans of all collectors of the JVM.
+     */
+    private static final GarbageCollectorMXBean[] BEANS = getBeans();
+
+    /**
+     * Hidden constructor.
+     */
+    private GarbageCollection() {
+        // only static methods
+    }
+
+    /**
+     * Getting the number of collections of all collectors.
+     *
+     * @return the number of collections since the start of the JVM
+     */
+    public static long getCollectionCount() {
+        long count = 0;
+        for (final GarbageCollectorMXBean bean : BEANS) {
+            count = count + Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Getting the accumulated time of the collections of all collectors. Depending on the collector, this time
+     * includes concurrent phases besides the pauses.
+     *
+     * @return the time of all collections since the start of the JVM in milli seconds
+     */
+    public static long getCollectionTime() {
+        long time = 0;
+        for (final GarbageCollectorMXBean bean : BEANS) {
+            time = time + Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Getting the bytes reclaimed by all collections, meaning the used memory of all pools before a collection minus
+     * the used memory after it.
+     *
+     * @return the reclaimed bytes since the first access to the notifications
+     */
+    public static long getReclaimedBytes() {
+        return NotificationCounter.INSTANCE.reclaimed.get();
+    }
+
+    /**
+     * Getting the bytes promoted to the old generation, meaning the growth of the old generation within each
+     * collection. The bytes are 0 if the collector offers no pool of an old generation.
+     *
+     * @return the promoted bytes since the first access to the notifications
+     */
+    public static long getPromotedBytes() {
+        return NotificationCounter.INSTANCE.promoted.get();
+    }
+
+    /**
+     * Checking if the notifications of the collectors are available.
+     *
+     * @return true if the reclaimed and the promoted bytes are measured, false otherwise
+     */
+    public static boolean isNotificationSupported() {
+        return NotificationCounter.INSTANCE.registered;
+    }
+
+    /**
+     * Getting the beans of all collectors.
+     *
+     * @return the beans
+     */
+    private static GarbageCollectorMXBean[] getBeans() {
+        final List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        return beans.toArray(new GarbageCollectorMXBean[beans.size()]);
+    }
+
+    /**
+     * Listener accumulating the notifications of all collectors, registered once on first access.
+     */
+    private static final class NotificationCounter implements NotificationListener {
+
+        /**
+         * Single instance, registered at all collectors.
+         */
+        static final NotificationCounter INSTANCE = new NotificationCounter();
+
+        /**
+         * Reclaimed bytes of all collections.
+         */
+        final AtomicLong reclaimed = new AtomicLong();
+
+        /**
+         * Promoted bytes of all collections.
+         */
+        final AtomicLong promoted = new AtomicLong();
+
+        /**
+         * Flag if the listener is registered at least at one collector.
+         */
+        final boolean registered;
+
+        /**
+         * Constructor registering the listener.
+         */
+        private NotificationCounter() {
+            boolean anyRegistered = false;
+            for (final GarbageCollectorMXBean bean : BEANS) {
+                if (bean instanceof NotificationEmitter) {
+                    ((NotificationEmitter) bean).addNotificationListener(this, null, null);
+                    anyRegistered = true;
+                }
+            }
+            registered = anyRegistered;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void handleNotification(final Notification notification, final Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            final GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            final Map<String, MemoryUsage> before = info.getGcInfo().getMemoryUsageBeforeGc();
+            final Map<String, MemoryUsage> after = info.getGcInfo().getMemoryUsageAfterGc();
+            long freed = 0;
+            long grown = 0;
+            for (final Map.Entry<String, MemoryUsage> pool : before.entrySet()) {
+                final MemoryUsage afterUsage = after.get(pool.getKey());
+                if (afterUsage == null) {
+                    continue;
+                }
+                final long diff = pool.getValue().getUsed() - afterUsage.getUsed();
+                freed = freed + diff;
+                if (isOldGeneration(pool.getKey()) && diff < 0) {
+                    grown = grown - diff;
+                }
+            }
+            if (freed > 0) {
+                reclaimed.addAndGet(freed);
+            }
+            promoted.addAndGet(grown);
+        }
+
+        /**
+         * Checking if a memory pool is the old generation.
+         *
+         * @param pool name of the pool
+         * @return true if the pool is the old generation, false otherwise
+         */
+        private static boolean isOldGeneration(final String pool) {
+            final String name = pool.toLowerCase(Locale.ENGLISH);
+            return name.contains("old") || name.contains("tenured");
+        }
+    }
+
+}
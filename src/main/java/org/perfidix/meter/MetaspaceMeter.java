@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+
+
+/**
+ * Meter to bench the growth of the metaspace within the current Benchmark, offered by the {@link MemoryPoolMXBean}
+ * of the metaspace. The metaspace holds the metadata of the loaded classes outside of the heap. The MetaspaceMeter is
+ * only usable with an instance of the {@link Memory} enumeration for formatting purposes.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see ClassLoadingMeter
+ * @see Memory
+ */
+public final class MetaspaceMeter extends AbstractMeter {
+
+    /**
+     * Name of the Meter.
+     */
+    private static final String NAME = "MetaspaceMeter";
+
+    /**
+     * Name of the pool of the metaspace.
+     */
+    private static final String POOL = "Metaspace";
+
+    /**
+     * Scale of memory.
+     */
+    private transient final Memory scale;
+
+    /**
+     * The bean of the metaspace, checked once.
+     */
+    private transient final MemoryPoolMXBean bean;
+
+    /**
+     * Constructor.
+     *
+     * @param paramScale scale for this meter, can be any instance of Memory-enum
+     * @throws UnsupportedOperationException if the JVM has no metaspace
+     */
+    public MetaspaceMeter(final Memory paramScale) {
+        super();
+        MemoryPoolMXBean metaspace = null;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (POOL.equals(pool.getName())) {
+                metaspace = pool;
+            }
+        }
+        if (metaspace == null) {
+            throw new UnsupportedOperationException("The JVM has no memory pool " + POOL);
+        }
+        bean = metaspace;
+        scale = paramScale;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the used memory of the metaspace without any conversion.
+     *
+     * @return the used memory in bytes
+     */
+    @Override
+    public long getRawValue() {
+        return bean.getUsage().getUsed();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / scale.getNumberOfBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return scale.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return scale.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime;
+        if (scale == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + scale.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final MetaspaceMeter other = (MetaspaceMeter) obj;
+        return scale == other.scale;
+    }
+
+}
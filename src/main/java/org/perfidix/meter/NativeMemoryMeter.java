@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Meter to bench the native memory committed by the JVM, read out of the summary of the native memory tracking. The
+ * tracking must be enabled by starting the JVM with <code>-XX:NativeMemoryTracking=summary</code>, e.g. within the
+ * arguments of a forked JVM. Each reading requests the summary from the diagnostic command bean and parses its total,
+ * the meter is therefore expensive and suitable for benches running at least some milli seconds. The
+ * NativeMemoryMeter is only usable with an instance of the {@link Memory} enumeration for formatting purposes.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see BufferPoolMeter
+ * @see Memory
+ */
+public final class NativeMemoryMeter extends AbstractMeter {
+
+    /**
+     * Name of the Meter.
+     */
+    private static final String NAME = "NativeMemoryMeter";
+
+    /**
+     * Name of the diagnostic command bean.
+     */
+    private static final String BEAN = "com.sun.management:type=DiagnosticCommand";
+
+    /**
+     * Operation of the native memory tracking.
+     */
+    private static final String OPERATION = "vmNativeMemory";
+
+    /**
+     * Arguments of the operation, the summary in bytes.
+     */
+    private static final String[] ARGUMENTS = {"summary", "scale=b"};
+
+    /**
+     * Line of the summary containing the total.
+     */
+    private static final String TOTAL = "Total:";
+
+    /**
+     * Key of the committed memory within the total.
+     */
+    private static final String COMMITTED = "committed=";
+
+    /**
+     * Scale of memory.
+     */
+    private transient final Memory scale;
+
+    /**
+     * Constructor.
+     *
+     * @param paramScale scale for this meter, can be any instance of Memory-enum
+     * @throws UnsupportedOperationException if the native memory tracking is not enabled
+     */
+    public NativeMemoryMeter(final Memory paramScale) {
+        super();
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Native memory tracking is not enabled, use -XX:NativeMemoryTracking=summary");
+        }
+        scale = paramScale;
+    }
+
+    /**
+     * Checking if the native memory tracking is enabled.
+     *
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isSupported() {
+        try {
+            return parseCommitted(requestSummary()) >= 0;
+        } catch (final JMException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Requesting the summary of the native memory tracking.
+     *
+     * @return the summary
+     * @throws JMException if the diagnostic command is not available
+     */
+    private static String requestSummary() throws JMException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        return (String) server.invoke(new ObjectName(BEAN), OPERATION, new Object[]{ARGUMENTS}, new String[]{String[].class.getName()});
+    }
+
+    /**
+     * Parsing the committed memory out of the total of a summary.
+     *
+     * @param summary the summary in bytes
+     * @return the committed bytes, -1 if the summary contains no total
+     */
+    static long parseCommitted(final String summary) {
+        final int total = summary.indexOf(TOTAL);
+        if (total < 0) {
+            return -1;
+        }
+        final int committed = summary.indexOf(COMMITTED, total);
+        if (committed < 0) {
+            return -1;
+        }
+        long bytes = 0;
+        for (int pos = committed + COMMITTED.length(); pos < summary.length() && Character.isDigit(summary.charAt(pos)); pos++) {
+            bytes = bytes * 10 + summary.charAt(pos) - '0';
+        }
+        return bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return convertRawValue(getRawValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the committed native memory without any conversion.
+     *
+     * @return the committed memory in bytes
+     * @throws IllegalStateException if the summary could not be requested
+     */
+    @Override
+    public long getRawValue() {
+        try {
+            return parseCommitted(requestSummary());
+        } catch (final JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / scale.getNumberOfBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return scale.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return scale.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime;
+        if (scale == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + scale.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final NativeMemoryMeter other = (NativeMemoryMeter) obj;
+        return scale == other.scale;
+    }
+
+}
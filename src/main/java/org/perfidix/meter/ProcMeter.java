@@ -0,0 +1,373 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Meter to bench the costs of the current Benchmark within the operating system, read out of the Linux
+ * <code>/proc</code> file system. The values are offered for the thread reading the meter, see {@link ProcValue}.
+ * Each thread keeps its file open and reads it into a reusable buffer, the value is parsed out of the buffer directly.
+ * Reading the meter therefore allocates no memory except for the first reading of each thread, which the executor
+ * takes outside of the measured window. All files are closed together with the meter and opened again by the next
+ * reading of each thread. The ProcMeter is only usable with an instance of the {@link ProcValue} enumeration.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ * @see ProcValue
+ */
+public final class ProcMeter extends AbstractMeter implements Closeable {
+
+    /**
+     * Size of the reusable buffer, larger than all files read.
+     */
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * The value to be read.
+     */
+    private transient final ProcValue value;
+
+    /**
+     * The open file and the buffer of each thread.
+     */
+    private transient final ThreadLocal<ProcFile> files;
+
+    /**
+     * All files opened by any thread, closed together with this meter.
+     */
+    private transient final List<ProcFile> opened;
+
+    /**
+     * Constructor.
+     *
+     * @param paramValue the value to be read
+     * @throws UnsupportedOperationException if the file of the value is not readable, e.g. on other systems than Linux
+     */
+    public ProcMeter(final ProcValue paramValue) {
+        super();
+        if (!isSupported(paramValue)) {
+            throw new UnsupportedOperationException(paramValue.getFile() + " is not readable");
+        }
+        value = paramValue;
+        opened = new ArrayList<ProcFile>();
+        files = new ThreadLocal<ProcFile>() {
+            @Override
+            protected ProcFile initialValue() {
+                return open();
+            }
+        };
+    }
+
+    /**
+     * Checking if a value is offered by the system.
+     *
+     * @param paramValue the value to be read
+     * @return true if the file of the value is readable, false otherwise
+     */
+    public static boolean isSupported(final ProcValue paramValue) {
+        return new File(paramValue.getFile()).canRead();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue() {
+        return getRawValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Reading the value for the current thread.
+     *
+     * @return the value since the start of the current thread
+     * @throws IllegalStateException if the file could not be read or does not contain the value
+     */
+    @Override
+    public long getRawValue() {
+        ProcFile file = files.get();
+        if (!file.isOpen()) {
+            file = open();
+            files.set(file);
+        }
+        return file.read();
+    }
+
+    /**
+     * Opening the file for the current thread.
+     *
+     * @return the opened file
+     */
+    private ProcFile open() {
+        final ProcFile file = new ProcFile(value);
+        synchronized (opened) {
+            opened.add(file);
+        }
+        return file;
+    }
+
+    /**
+     * Closing the files of all threads. Each thread opens its file again with its next reading.
+     *
+     * @throws IOException if a file could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (opened) {
+            IOException failure = null;
+            for (final ProcFile file : opened) {
+                try {
+                    file.close();
+                } catch (final IOException e) {
+                    failure = e;
+                }
+            }
+            opened.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return value.name() + "Meter";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnit() {
+        return value.getUnit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getUnitDescription() {
+        return value.getUnitDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = prime;
+        if (value == null) {
+            result = prime * result;
+        } else {
+            result = prime * result + value.hashCode();
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ProcMeter other = (ProcMeter) obj;
+        return value == other.value;
+    }
+
+    /**
+     * File of one thread, kept open and read into a reusable buffer. The file must be opened by the thread it is read
+     * for since <code>/proc/thread-self</code> is resolved when opening.
+     */
+    private static final class ProcFile {
+
+        /**
+         * The value to be read.
+         */
+        private final ProcValue value;
+
+        /**
+         * The open file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Reusable buffer.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor, opening the file for the current thread.
+         *
+         * @param paramValue the value to be read
+         */
+        ProcFile(final ProcValue paramValue) {
+            value = paramValue;
+            try {
+                channel = new RandomAccessFile(paramValue.getFile(), "r").getChannel();
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        /**
+         * Checking if the file is still open.
+         *
+         * @return true if the file is open, false if closed
+         */
+        boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        /**
+         * Closing the file.
+         *
+         * @throws IOException if the file could not be closed
+         */
+        void close() throws IOException {
+            channel.close();
+        }
+
+        /**
+         * Reading the file from the beginning and parsing the value.
+         *
+         * @return the value
+         */
+        long read() {
+            buffer.clear();
+            try {
+                int read = channel.read(buffer, 0);
+                while (read > 0 && buffer.hasRemaining()) {
+                    read = channel.read(buffer, buffer.position());
+                }
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            buffer.flip();
+            final int start;
+            if (value.getKey() == null) {
+                start = findField(value.getField());
+            } else {
+                start = findKey(value.getKey());
+            }
+            if (start < 0) {
+                throw new IllegalStateException(value.getFile() + " does not contain " + value);
+            }
+            return parseNumber(start);
+        }
+
+        /**
+         * Finding the line starting with a key.
+         *
+         * @param key the key in ASCII
+         * @return the position after the key, -1 if not found
+         */
+        private int findKey(final byte[] key) {
+            int lineStart = 0;
+            while (lineStart + key.length <= buffer.limit()) {
+                boolean found = true;
+                for (int i = 0; i < key.length && found; i++) {
+                    found = buffer.get(lineStart + i) == key[i];
+                }
+                if (found) {
+                    return lineStart + key.length;
+                }
+                while (lineStart < buffer.limit() && buffer.get(lineStart) != '\n') {
+                    lineStart++;
+                }
+                lineStart++;
+            }
+            return -1;
+        }
+
+        /**
+         * Finding a field of a line separated by spaces. The second field is the name of the thread in brackets which
+         * may contain spaces itself, the fields are therefore counted after the last closing bracket.
+         *
+         * @param field number of the field counted from 1
+         * @return the position of the field, -1 if not found
+         */
+        private int findField(final int field) {
+            int pos = buffer.limit() - 1;
+            while (pos >= 0 && buffer.get(pos) != ')') {
+                pos--;
+            }
+            if (pos < 0) {
+                return -1;
+            }
+            int current = 2;
+            while (pos < buffer.limit()) {
+                if (buffer.get(pos) == ' ') {
+                    current++;
+                    if (current == field) {
+                        return pos + 1;
+                    }
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        /**
+         * Parsing a decimal number, leading whitespaces are skipped.
+         *
+         * @param start position to start parsing
+         * @return the number
+         */
+        private long parseNumber(final int start) {
+            int pos = start;
+            while (pos < buffer.limit() && (buffer.get(pos) == ' ' || buffer.get(pos) == '\t')) {
+                pos++;
+            }
+            long number = 0;
+            while (pos < buffer.limit() && buffer.get(pos) >= '0' && buffer.get(pos) <= '9') {
+                number = number * 10 + buffer.get(pos) - '0';
+                pos++;
+            }
+            return number;
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+/**
+ * Enum of the values offered by the Linux <code>/proc</code> file system for the {@link ProcMeter}. All values are
+ * read for the thread reading the meter out of <code>/proc/thread-self</code>, each worker thread of a concurrent bench
+ * therefore reads its own values.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public enum ProcValue {
+
+    /**
+     * Enum for voluntary context switches, e.g. waiting for a lock or for I/O.
+     */
+    VoluntaryContextSwitches(ProcValue.STATUS, "voluntary_ctxt_switches:", -1, "switches", "voluntary context switches"),
+    /**
+     * Enum for involuntary context switches, meaning preemptions by the scheduler.
+     */
+    InvoluntaryContextSwitches(ProcValue.STATUS, "nonvoluntary_ctxt_switches:", -1, "switches", "involuntary context switches"),
+    /**
+     * Enum for minor page faults, served without loading a page from the disk.
+     */
+    MinorPageFaults(ProcValue.STAT, null, 10, "faults", "minor page faults"),
+    /**
+     * Enum for major page faults, served by loading a page from the disk.
+     */
+    MajorPageFaults(ProcValue.STAT, null, 12, "faults", "major page faults"),
+    /**
+     * Enum for bytes read by system calls, including reads served by the page cache.
+     */
+    ReadBytes(ProcValue.IO, "rchar:", -1, "B", "bytes read"),
+    /**
+     * Enum for bytes written by system calls, including writes to the page cache.
+     */
+    WrittenBytes(ProcValue.IO, "wchar:", -1, "B", "bytes written"),
+    /**
+     * Enum for bytes read from the storage.
+     */
+    StorageReadBytes(ProcValue.IO, "read_bytes:", -1, "B", "bytes read from the storage"),
+    /**
+     * Enum for bytes written to the storage.
+     */
+    StorageWrittenBytes(ProcValue.IO, "write_bytes:", -1, "B", "bytes written to the storage");
+
+    /**
+     * File with the status of the thread.
+     */
+    private static final String STATUS = "/proc/thread-self/status";
+
+    /**
+     * File with the statistics of the thread.
+     */
+    private static final String STAT = "/proc/thread-self/stat";
+
+    /**
+     * File with the I/O of the thread.
+     */
+    private static final String IO = "/proc/thread-self/io";
+
+    /**
+     * The file offering the value.
+     */
+    private final String file;
+
+    /**
+     * The key of the line offering the value, null if the value is a field.
+     */
+    private final byte[] key;
+
+    /**
+     * The number of the field offering the value, -1 if the value is a line.
+     */
+    private final int field;
+
+    /**
+     * The unit of the value.
+     */
+    private final String unit;
+
+    /**
+     * The description of the value.
+     */
+    private final String unitDescription;
+
+    /**
+     * The constructor for the values.
+     *
+     * @param paramFile     file offering the value
+     * @param paramKey      key of the line offering the value, null if the value is a field
+     * @param paramField    number of the field offering the value, counted from 1
+     * @param paramUnit     to give
+     * @param paramUnitDesc to give
+     */
+    private ProcValue(final String paramFile, final String paramKey, final int paramField, final String paramUnit, final String paramUnitDesc) {
+        file = paramFile;
+        if (paramKey == null) {
+            key = null;
+        } else {
+            key = new byte[paramKey.length()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) paramKey.charAt(i);
+            }
+        }
+        field = paramField;
+        unit = paramUnit;
+        unitDescription = paramUnitDesc;
+    }
+
+    /**
+     * Getting the file offering the value.
+     *
+     * @return the path of the file
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Getting the key of the line offering the value.
+     *
+     * @return the key in ASCII, null if the value is a field
+     */
+    byte[] getKey() {
+        return key;
+    }
+
+    /**
+     * Getting the number of the field offering the value.
+     *
+     * @return the number of the field counted from 1, -1 if the value is a line
+     */
+    int getField() {
+        return field;
+    }
+
+    /**
+     * Getting the unit.
+     *
+     * @return the unit
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getting the description.
+     *
+     * @return the description
+     */
+    public String getUnitDescription() {
+        return unitDescription;
+    }
+
+}
@@ -60,6 +60,32 @@ public final class TimeMeter extends AbstractMeter {
         return new BigDecimal(System.nanoTime(), MathContext.DECIMAL128).divide(new BigDecimal(currentTime.getNumberOfMilliSeconds(), MathContext.DECIMAL128), MathContext.DECIMAL128).doubleValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasRawValue() {
+        return true;
+    }
+
+    /**
+     * Getting the current time in nano seconds without any conversion.
+     *
+     * @return the current time in nano seconds
+     */
+    @Override
+    public long getRawValue() {
+        return System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double convertRawValue(final long rawDelta) {
+        return rawDelta / currentTime.getNumberOfMilliSeconds();
+    }
+
     /**
      * {@inheritDoc}
      */
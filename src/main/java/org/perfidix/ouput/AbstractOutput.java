@@ -59,6 +59,44 @@ public abstract class AbstractOutput {
 				.toString();
 	}
 
+	/**
+	 * Checking percentiles to be printed.
+	 *
+	 * @param percentiles
+	 *            the percentiles
+	 * @return a copy of the percentiles
+	 * @throws IllegalArgumentException
+	 *             if a percentile is not within (0, 100]
+	 */
+	protected static final double[] checkPercentiles(
+			final double... percentiles) {
+		for (final double percentile : percentiles) {
+			if (!(percentile > 0 && percentile <= 100)) {
+				throw new IllegalArgumentException(new StringBuilder(
+						"Percentile must be within (0, 100]: ").append(
+						percentile).toString());
+			}
+		}
+		return percentiles.clone();
+	}
+
+	/**
+	 * Getting the name of a percentile, e.g. <code>p99.9</code>.
+	 *
+	 * @param percentile
+	 *            the percentile
+	 * @return the name of the percentile
+	 */
+	protected static final String getPercentileName(final double percentile) {
+		final StringBuilder builder = new StringBuilder("p");
+		if (percentile == Math.rint(percentile)) {
+			builder.append((long) percentile);
+		} else {
+			builder.append(percentile);
+		}
+		return builder.toString();
+	}
+
 	/**
 	 * Visiting the {@link BenchmarkResult} and do something with the result.
 	 *
@@ -64,14 +64,21 @@ public final class CSVOutput extends AbstractOutput {
      */
     private transient boolean firstException;
 
+    /**
+     * Percentiles written for each method and meter.
+     */
+    private transient final double[] percentiles;
+
     /**
      * Constructor for piping the result to elsewhere.
      *
-     * @param paramFolder an {@link File} object which has to be a folder to write to
+     * @param paramFolder      an {@link File} object which has to be a folder to write to
+     * @param paramPercentiles percentiles written for each method and meter, e.g. 99 and 99.9
      */
-    public CSVOutput(final File paramFolder) {
+    public CSVOutput(final File paramFolder, final double... paramPercentiles) {
         super();
         folder = paramFolder;
+        percentiles = checkPercentiles(paramPercentiles);
         if (folder != null && !folder.isDirectory()) {
             throw new IllegalStateException(new StringBuilder(paramFolder.toString()).append(" has to be a folder!").toString());
         }
@@ -152,6 +159,27 @@ public final class CSVOutput extends AbstractOutput {
                 }
             }
         }
+        // Printing the percentiles
+        if (percentiles.length > 0) {
+            final PrintStream currentWriter = setUpNewPrintStream(true, "Percentiles");
+            currentWriter.append("class,method,meter,unit");
+            for (final double percentile : percentiles) {
+                currentWriter.append(",").append(getPercentileName(percentile));
+            }
+            for (final ClassResult classRes : res.getIncludedResults()) {
+                for (final MethodResult methRes : classRes.getIncludedResults()) {
+                    for (final AbstractMeter meter : methRes.getRegisteredMeters()) {
+                        currentWriter.append("\n").append(classRes.getElementName()).append(",").append(methRes.getElementName());
+                        currentWriter.append(",").append(meter.getName()).append(",").append(meter.getUnit());
+                        for (final double percentile : percentiles) {
+                            currentWriter.append(",").append(Double.toString(methRes.getPercentile(meter, percentile)));
+                        }
+                    }
+                }
+            }
+            currentWriter.append("\n");
+            currentWriter.flush();
+        }
         // Printing the exceptions
         final PrintStream currentWriter = setUpNewPrintStream(true, "Exceptions");
 
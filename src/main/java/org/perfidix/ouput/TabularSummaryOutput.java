@@ -28,10 +28,16 @@ import org.perfidix.ouput.asciitable.NiceTable;
 import org.perfidix.result.AbstractResult;
 import org.perfidix.result.BenchmarkResult;
 import org.perfidix.result.ClassResult;
+import org.perfidix.result.ConcurrencyResult;
 import org.perfidix.result.MethodResult;
 
 import java.io.PrintStream;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -47,14 +53,21 @@ public final class TabularSummaryOutput extends AbstractOutput {
      */
     private transient final PrintStream out;
 
+    /**
+     * Percentiles printed as additional columns.
+     */
+    private transient final double[] percentiles;
+
     /**
      * Constructor for piping the result to elsewhere.
      *
-     * @param paramOut an {@link PrintStream} to pipe to.
+     * @param paramOut         an {@link PrintStream} to pipe to.
+     * @param paramPercentiles percentiles printed as additional columns, e.g. 99 and 99.9
      */
-    public TabularSummaryOutput(final PrintStream paramOut) {
+    public TabularSummaryOutput(final PrintStream paramOut, final double... paramPercentiles) {
         super();
         out = paramOut;
+        percentiles = checkPercentiles(paramPercentiles);
     }
 
     /**
@@ -69,7 +82,7 @@ public final class TabularSummaryOutput extends AbstractOutput {
      */
     @Override
     public void visitBenchmark(final BenchmarkResult benchRes) {
-        final int numberOfColumns = 9;
+        final int numberOfColumns = 9 + percentiles.length;
         NiceTable table = new NiceTable(numberOfColumns);
         table = generateHeader(table);
         for (final AbstractMeter meter : benchRes.getRegisteredMeters()) {
@@ -78,6 +91,9 @@ public final class TabularSummaryOutput extends AbstractOutput {
                 table.addHeader(classRes.getElementName(), '.', Alignment.Left);
                 for (final MethodResult methRes : classRes.getIncludedResults()) {
                     table = generateMeterResult(methRes.getElementName(), meter, methRes, table);
+                    for (final ConcurrencyResult concurrencyRes : getSortedConcurrencyResults(methRes)) {
+                        table = generateMeterResult(new StringBuilder(methRes.getElementName()).append("@").append(concurrencyRes.getElementName()).toString(), meter, concurrencyRes, table);
+                    }
                 }
 
                 table.addHeader(new StringBuilder("Summary for ").append(classRes.getElementName()).toString(), '_', Alignment.Left);
@@ -92,6 +108,23 @@ public final class TabularSummaryOutput extends AbstractOutput {
             table = generateMeterResult("", meter, benchRes, table);
         }
 
+        table = generateThroughput(benchRes, table);
+        table = generateDisturbedRuns(benchRes, table);
+
+        if (!benchRes.getOverheads().isEmpty()) {
+            table.addHeader("Overhead", '=', Alignment.Center);
+            for (final Map.Entry<AbstractMeter, Double> overhead : benchRes.getOverheads().entrySet()) {
+                table.addHeader(new StringBuilder(overhead.getKey().getName()).append(": ").append(AbstractOutput.format(overhead.getValue())).append(" ").append(overhead.getKey().getUnit()).toString(), ' ', Alignment.Left);
+            }
+        }
+
+        if (!benchRes.getWarnings().isEmpty()) {
+            table.addHeader("Warnings", '=', Alignment.Center);
+            for (final String warning : benchRes.getWarnings()) {
+                table.addHeader(warning, ' ', Alignment.Left);
+            }
+        }
+
         table.addHeader("Exceptions", '=', Alignment.Center);
         for (final AbstractPerfidixMethodException exec : benchRes.getExceptions()) {
             final StringBuilder execBuilder0 = new StringBuilder();
@@ -130,10 +163,92 @@ public final class TabularSummaryOutput extends AbstractOutput {
      * @return the modified {@link NiceTable} instance
      */
     private NiceTable generateMeterResult(final String columnDesc, final AbstractMeter meter, final AbstractResult result, final NiceTable input) {
-        input.addRow(new String[]{columnDesc, meter.getUnit(), AbstractOutput.format(result.sum(meter)), AbstractOutput.format(result.min(meter)), AbstractOutput.format(result.max(meter)), AbstractOutput.format(result.mean(meter)), AbstractOutput.format(result.getStandardDeviation(meter)), new StringBuilder("[").append(AbstractOutput.format(result.getConf05(meter))).append("-").append(AbstractOutput.format(result.getConf95(meter))).append("]").toString(), AbstractOutput.format(result.getResultSet(meter).size())});
+        final List<String> row = new ArrayList<String>();
+        Collections.addAll(row, columnDesc, meter.getUnit(), AbstractOutput.format(result.sum(meter)), AbstractOutput.format(result.min(meter)), AbstractOutput.format(result.max(meter)), AbstractOutput.format(result.mean(meter)), AbstractOutput.format(result.getStandardDeviation(meter)), new StringBuilder("[").append(AbstractOutput.format(result.getConf05(meter))).append("-").append(AbstractOutput.format(result.getConf95(meter))).append("]").toString(), AbstractOutput.format(result.getNumberOfResult(meter)));
+        for (final double percentile : percentiles) {
+            row.add(AbstractOutput.format(result.getPercentile(meter, percentile)));
+        }
+        input.addRow(row.toArray(new String[row.size()]));
+        return input;
+    }
+
+    /**
+     * Generating the throughput of all concurrently executed methods for a given table. The speedup is related to the
+     * throughput of the lowest number of threads.
+     *
+     * @param benchRes the {@link BenchmarkResult} to be print
+     * @param input    the {@link NiceTable} to be print to
+     * @return the modified {@link NiceTable} instance
+     */
+    private NiceTable generateThroughput(final BenchmarkResult benchRes, final NiceTable input) {
+        boolean first = true;
+        for (final ClassResult classRes : benchRes.getIncludedResults()) {
+            for (final MethodResult methRes : classRes.getIncludedResults()) {
+                final List<ConcurrencyResult> concurrencyResults = getSortedConcurrencyResults(methRes);
+                if (!concurrencyResults.isEmpty()) {
+                    if (first) {
+                        input.addHeader("Throughput", '=', Alignment.Center);
+                        first = false;
+                    }
+                    input.addHeader(new StringBuilder(classRes.getElementName()).append("#").append(methRes.getElementName()).toString(), '.', Alignment.Left);
+                    final double base = concurrencyResults.get(0).getThroughput();
+                    for (final ConcurrencyResult concurrencyRes : concurrencyResults) {
+                        final StringBuilder builder = new StringBuilder(concurrencyRes.getElementName()).append(": ");
+                        builder.append(AbstractOutput.format(concurrencyRes.getThroughput())).append(" ops/s");
+                        if (base > 0) {
+                            builder.append(", speedup ").append(AbstractOutput.format(concurrencyRes.getThroughput() / base));
+                        }
+                        input.addHeader(builder.toString(), ' ', Alignment.Left);
+                    }
+                }
+            }
+        }
         return input;
     }
 
+    /**
+     * Generating the runs hit by a garbage collection or taken while the JIT compiler was busy for a given table.
+     *
+     * @param benchRes the {@link BenchmarkResult} to be print
+     * @param input    the {@link NiceTable} to be print to
+     * @return the modified {@link NiceTable} instance
+     */
+    private NiceTable generateDisturbedRuns(final BenchmarkResult benchRes, final NiceTable input) {
+        boolean first = true;
+        for (final ClassResult classRes : benchRes.getIncludedResults()) {
+            for (final MethodResult methRes : classRes.getIncludedResults()) {
+                if (!methRes.getRunsHitByGc().isEmpty() || !methRes.getRunsHitByJit().isEmpty()) {
+                    if (first) {
+                        input.addHeader("Runs hit by GC or JIT", '=', Alignment.Center);
+                        first = false;
+                    }
+                    final StringBuilder builder = new StringBuilder(classRes.getElementName()).append("#").append(methRes.getElementName()).append(": ");
+                    builder.append(methRes.getRunsHitByGc().cardinality()).append(" of ").append(methRes.getNumberOfRuns()).append(" runs hit by GC, ");
+                    builder.append(methRes.getRunsHitByJit().cardinality()).append(" of ").append(methRes.getNumberOfRuns()).append(" runs while JIT was busy");
+                    input.addHeader(builder.toString(), ' ', Alignment.Left);
+                }
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Getting the concurrent results of a method, sorted by the number of threads.
+     *
+     * @param methRes the {@link MethodResult} instance
+     * @return the sorted {@link ConcurrencyResult} instances
+     */
+    private static List<ConcurrencyResult> getSortedConcurrencyResults(final MethodResult methRes) {
+        final List<ConcurrencyResult> returnVal = new ArrayList<ConcurrencyResult>(methRes.getIncludedResults());
+        Collections.sort(returnVal, new Comparator<ConcurrencyResult>() {
+            @Override
+            public int compare(final ConcurrencyResult object1, final ConcurrencyResult object2) {
+                return Integer.compare(object1.getNumberOfThreads(), object2.getNumberOfThreads());
+            }
+        });
+        return returnVal;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -173,7 +288,12 @@ public final class TabularSummaryOutput extends AbstractOutput {
      */
     private NiceTable generateHeader(final NiceTable table) {
         table.addHeader("Benchmark");
-        table.addRow(new String[]{"-", "unit", "sum", "min", "max", "avg", "stddev", "conf95", "runs"});
+        final List<String> row = new ArrayList<String>();
+        Collections.addAll(row, "-", "unit", "sum", "min", "max", "avg", "stddev", "conf95", "runs");
+        for (final double percentile : percentiles) {
+            row.add(getPercentileName(percentile));
+        }
+        table.addRow(row.toArray(new String[row.size()]));
         return table;
     }
 
@@ -19,23 +19,28 @@
 package org.perfidix.result;
 
 
-import org.apache.commons.collections.primitives.adapters.CollectionDoubleCollection;
-import org.apache.commons.math.stat.descriptive.AbstractUnivariateStatistic;
-import org.apache.commons.math.stat.descriptive.moment.Mean;
-import org.apache.commons.math.stat.descriptive.moment.StandardDeviation;
-import org.apache.commons.math.stat.descriptive.rank.Max;
-import org.apache.commons.math.stat.descriptive.rank.Min;
-import org.apache.commons.math.stat.descriptive.rank.Percentile;
-import org.apache.commons.math.stat.descriptive.summary.Sum;
-import org.apache.commons.math.stat.descriptive.summary.SumOfSquares;
 import org.perfidix.meter.AbstractMeter;
 
-import java.util.*;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 
 /**
  * Results which are generated through the benchmark are stored in the inherted implementation of this class. The
- * storage is done corresponding to the mapping of meters.
+ * storage is done corresponding to the mapping of meters. Data is stored as primitive values only at the leaves of the
+ * result tree, the results of aggregating containers are views over the data of their included results. Depending on
+ * the {@link KindOfStorage}, either every value or only running aggregates are kept, the storage also defines the
+ * percentiles. Additionally, a {@link Histogram} of the data is offered to be merged with the histograms of other
+ * benchmarks, built out of the kept values or kept by the running aggregates.
  *
  * @author Sebastian Graf, University of Konstanz
  * @author Alexander Onea, neue Couch
@@ -48,18 +53,47 @@ public abstract class AbstractResult {
     private transient final Object relatedElement;
 
     /**
-     * Results mapped to the meters.
+     * Results mapped to the meters, only containing the data added to this result itself.
      */
-    private transient final Map<AbstractMeter, Collection<Double>> meterResults;
+    private transient final Map<AbstractMeter, ResultStore> meterResults;
+
+    /**
+     * Cached summaries of the data mapped to the meters.
+     */
+    private transient final Map<AbstractMeter, Statistics> summaries;
+
+    /**
+     * Cached histograms of the data, including the data of the aggregated results, mapped to the meters.
+     */
+    private transient final Map<AbstractMeter, Histogram> aggregatedHistograms;
+
+    /**
+     * Kind of storing the data.
+     */
+    private transient final KindOfStorage storage;
+
+    /**
+     * Result aggregating the data of this result, <code>null</code> for the root of the result tree.
+     */
+    private transient AbstractResult parent;
+
+    /**
+     * Flag if data was added to this result or to one of its aggregated results since the caches were filled.
+     */
+    private transient volatile boolean dirty;
 
     /**
      * Constructor with a given name.
      *
      * @param paramElement element to this result.
+     * @param paramStorage kind of storing the data
      */
-    AbstractResult(final Object paramElement) {
+    AbstractResult(final Object paramElement, final KindOfStorage paramStorage) {
         this.relatedElement = paramElement;
-        this.meterResults = new Hashtable<AbstractMeter, Collection<Double>>();
+        this.storage = paramStorage;
+        this.meterResults = new Hashtable<AbstractMeter, ResultStore>();
+        this.summaries = new Hashtable<AbstractMeter, Statistics>();
+        this.aggregatedHistograms = new Hashtable<AbstractMeter, Histogram>();
 
     }
 
@@ -71,14 +105,64 @@ public abstract class AbstractResult {
     protected abstract String getElementName();
 
     /**
-     * an array of all data items in the structure.
+     * Getting the results whose data is aggregated by this result. Leaves of the result tree do not aggregate any data.
+     *
+     * @return the aggregated results
+     */
+    Collection<? extends AbstractResult> getAggregatedResults() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Getting the kind of storing the data of this result.
+     *
+     * @return the kind of storage
+     */
+    public final KindOfStorage getKindOfStorage() {
+        return storage;
+    }
+
+    /**
+     * an array of all data items in the structure. The returned collection is a read-only view, it reflects data added
+     * afterwards. If the results are not stored in {@link KindOfStorage#Samples} mode, no data items are kept and the
+     * collection is empty.
      *
      * @param meter for the results wanted
      * @return the result set.
      */
     public final Collection<Double> getResultSet(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        return this.meterResults.get(meter);
+        return new AbstractCollection<Double>() {
+            @Override
+            public Iterator<Double> iterator() {
+                final double[] values = getValues(meter);
+                return new Iterator<Double>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Double next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        return values[index++];
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return storage == KindOfStorage.Samples ? getNumberOfResult(meter) : 0;
+            }
+        };
     }
 
     /**
@@ -87,7 +171,11 @@ public abstract class AbstractResult {
      * @return a set of all meters.
      */
     public final Set<AbstractMeter> getRegisteredMeters() {
-        return this.meterResults.keySet();
+        final Set<AbstractMeter> meters = new HashSet<AbstractMeter>(meterResults.keySet());
+        for (final AbstractResult result : getAggregatedResults()) {
+            meters.addAll(result.getRegisteredMeters());
+        }
+        return meters;
     }
 
     /**
@@ -97,10 +185,7 @@ public abstract class AbstractResult {
      * @return the mean value.
      */
     public final double mean(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic mean = new Mean();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return mean.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getMean();
     }
 
     /**
@@ -110,10 +195,7 @@ public abstract class AbstractResult {
      * @return the square sum.
      */
     public final double squareSum(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic sqrSum = new SumOfSquares();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return sqrSum.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getSquareSum();
     }
 
     /**
@@ -123,10 +205,7 @@ public abstract class AbstractResult {
      * @return the standard deviation
      */
     public final double getStandardDeviation(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic stdDev = new StandardDeviation();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return stdDev.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getStandardDeviation();
     }
 
     /**
@@ -136,10 +215,7 @@ public abstract class AbstractResult {
      * @return the sum of all runs.
      */
     public final double sum(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic sum = new Sum();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return sum.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getSum();
     }
 
     /**
@@ -149,39 +225,29 @@ public abstract class AbstractResult {
      * @return the minimum result value.
      */
     public final double min(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic min = new Min();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return min.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getMin();
     }
 
     /**
      * Computes the confidence 05 interval-factor. This value has to be combined with the mean to get the
-     * confidence-interval.
+     * confidence-interval. The value is the 5th percentile, see {@link #getPercentile(AbstractMeter, double)}.
      *
      * @param meter the meter for the 05-confidence interval factor
      * @return the 99% confidence
      */
     public final double getConf05(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic conf05 = new Percentile(5.0);
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return conf05.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
-
+        return getPercentile(meter, 5.0);
     }
 
     /**
      * Computes the confidence 95 interval-factor. This value has to be combined with the mean to get the
-     * confidence-interval.
+     * confidence-interval. The value is the 95th percentile, see {@link #getPercentile(AbstractMeter, double)}.
      *
      * @param meter the meter for the 95-confidence interval factor
      * @return the 95% confidence
      */
     public final double getConf95(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic conf95 = new Percentile(95.0);
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return conf95.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getPercentile(meter, 95.0);
     }
 
     /**
@@ -191,10 +257,31 @@ public abstract class AbstractResult {
      * @return the maximum result value.
      */
     public final double max(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        final AbstractUnivariateStatistic max = new Max();
-        final CollectionDoubleCollection doubleColl = new CollectionDoubleCollection(this.meterResults.get(meter));
-        return max.evaluate(doubleColl.toArray(), 0, doubleColl.toArray().length);
+        return getSummary(meter).getMax();
+    }
+
+    /**
+     * Computes an arbitrary percentile, e.g. 99.9. The percentile is defined by the {@link KindOfStorage} of this
+     * result: exact out of every value for {@link KindOfStorage#Samples}, estimated out of the histogram for
+     * {@link KindOfStorage#Streaming} and out of the quantile sketch for {@link KindOfStorage#Sketch}.
+     *
+     * @param meter      the meter for the percentile
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the value of the percentile
+     * @see KindOfStorage
+     */
+    public final double getPercentile(final AbstractMeter meter, final double percentile) {
+        return getSummary(meter).getPercentile(percentile);
+    }
+
+    /**
+     * Getting the histogram of the results of one meter, e.g. to be merged with the histograms of other benchmarks.
+     *
+     * @param meter the meter of the histogram
+     * @return a copy of the histogram
+     */
+    public final Histogram getHistogram(final AbstractMeter meter) {
+        return new Histogram(getAggregatedHistogram(meter));
     }
 
     /**
@@ -204,8 +291,12 @@ public abstract class AbstractResult {
      * @return the number of results of one meter
      */
     public final int getNumberOfResult(final AbstractMeter meter) {
-        checkIfMeterExists(meter);
-        return meterResults.get(meter).size();
+        final ResultStore store = meterResults.get(meter);
+        int size = store == null ? 0 : store.size();
+        for (final AbstractResult result : getAggregatedResults()) {
+            size += result.getNumberOfResult(meter);
+        }
+        return size;
     }
 
     /**
@@ -224,18 +315,202 @@ public abstract class AbstractResult {
      * @param data  the data to be added
      */
     final void addData(final AbstractMeter meter, final double data) {
-        checkIfMeterExists(meter);
-        meterResults.get(meter).add(data);
+        getStore(meter).add(data);
+        invalidate();
+    }
+
+    /**
+     * Merging the data of another result into this result. If the values of the other result are not kept, this
+     * result must not keep its values either.
+     *
+     * @param other the result whose data is merged
+     * @throws IllegalArgumentException if the data of the other result can not be merged into this result
+     */
+    void mergeResult(final AbstractResult other) {
+        for (final Map.Entry<AbstractMeter, ResultStore> entry : other.meterResults.entrySet()) {
+            getStore(entry.getKey()).addAll(entry.getValue());
+        }
+        invalidate();
+    }
+
+    /**
+     * Getting the data of one meter added to this result itself, e.g. to send it to another JVM. Depending on the
+     * {@link KindOfStorage}, the data consists of all values or of running aggregates including the {@link Histogram}
+     * of the values.
+     *
+     * @param meter the related meter
+     * @return the serializable data, <code>null</code> if no data was added
+     */
+    public final Serializable getAggregates(final AbstractMeter meter) {
+        final ResultStore store = meterResults.get(meter);
+        return store == null ? null : new Aggregates(store);
+    }
+
+    /**
+     * Adding data of one meter got from {@link #getAggregates(AbstractMeter)} of another result.
+     *
+     * @param meter      the related meter
+     * @param aggregates the data to be added
+     * @throws IllegalArgumentException if the data can not be added to this result
+     */
+    final void addAggregates(final AbstractMeter meter, final Serializable aggregates) {
+        if (!(aggregates instanceof Aggregates)) {
+            throw new IllegalArgumentException("Data has to be got from a result");
+        }
+        getStore(meter).addAll(((Aggregates) aggregates).store);
+        invalidate();
+    }
+
+    /**
+     * Getting the store of the data added to this result itself, the store is created if not existing.
+     *
+     * @param meter the related meter
+     * @return the store of the meter
+     */
+    private ResultStore getStore(final AbstractMeter meter) {
+        ResultStore store = meterResults.get(meter);
+        if (store == null) {
+            if (storage == KindOfStorage.Samples) {
+                store = new SampleSet();
+            } else {
+                store = new StreamingStatistics(storage);
+            }
+            meterResults.put(meter, store);
+        }
+        return store;
+    }
+
+    /**
+     * Setting the result aggregating the data of this result, notified if data is added to this result.
+     *
+     * @param paramParent the aggregating result
+     */
+    final void setParent(final AbstractResult paramParent) {
+        parent = paramParent;
+    }
+
+    /**
+     * Marking the caches of this result and of all results aggregating its data as outdated.
+     */
+    private void invalidate() {
+        for (AbstractResult result = this; result != null; result = result.parent) {
+            result.dirty = true;
+        }
+    }
+
+    /**
+     * Clearing the caches if data was added since they were filled.
+     */
+    private void validate() {
+        if (dirty) {
+            dirty = false;
+            summaries.clear();
+            aggregatedHistograms.clear();
+        }
+    }
+
+    /**
+     * Getting the histogram of the data of one meter, including the data of the aggregated results. The histogram is
+     * cached until data is added.
+     *
+     * @param meter the related meter
+     * @return the histogram of the data
+     */
+    private Histogram getAggregatedHistogram(final AbstractMeter meter) {
+        validate();
+        Histogram histogram = aggregatedHistograms.get(meter);
+        if (histogram == null) {
+            histogram = new Histogram();
+            addHistograms(meter, histogram);
+            aggregatedHistograms.put(meter, histogram);
+        }
+        return histogram;
     }
 
     /**
-     * Checking method if meter is registered, otherwise inserting a suitable data structure.
+     * Recording the data of one meter, including the data of the aggregated results, into a histogram.
      *
-     * @param meter to be checked
+     * @param meter     the related meter
+     * @param histogram the histogram to record into
      */
-    private void checkIfMeterExists(final AbstractMeter meter) {
-        if (!meterResults.containsKey(meter)) {
-            meterResults.put(meter, new LinkedList<Double>());
+    private void addHistograms(final AbstractMeter meter, final Histogram histogram) {
+        final ResultStore store = meterResults.get(meter);
+        if (store != null) {
+            store.recordInto(histogram);
+        }
+        for (final AbstractResult result : getAggregatedResults()) {
+            result.addHistograms(meter, histogram);
+        }
+    }
+
+    /**
+     * Getting all data of one meter, including the data of the aggregated results, as a newly allocated array.
+     *
+     * @param meter the related meter
+     * @return the data of the meter, empty if no data items are kept
+     */
+    final double[] getValues(final AbstractMeter meter) {
+        if (storage != KindOfStorage.Samples) {
+            return new double[0];
+        }
+        final double[] values = new double[getNumberOfResult(meter)];
+        copyValues(meter, values, 0);
+        return values;
+    }
+
+    /**
+     * Copying all data of one meter, including the data of the aggregated results, into an array.
+     *
+     * @param meter  the related meter
+     * @param dest   the array to copy to
+     * @param offset position of the first value within the array
+     * @return the position after the last copied value
+     */
+    private int copyValues(final AbstractMeter meter, final double[] dest, final int offset) {
+        final ResultStore store = meterResults.get(meter);
+        int pos = store == null ? offset : store.copyTo(dest, offset);
+        for (final AbstractResult result : getAggregatedResults()) {
+            pos = result.copyValues(meter, dest, pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Getting the summary of the data of one meter. The summary is cached until data is added to this result or to one
+     * of its aggregated results, which marks the caches of all aggregating results as outdated.
+     *
+     * @param meter the related meter
+     * @return the summary of the data
+     */
+    private Statistics getSummary(final AbstractMeter meter) {
+        validate();
+        Statistics summary = summaries.get(meter);
+        if (summary == null) {
+            if (storage == KindOfStorage.Samples) {
+                summary = new ResultSummary(getValues(meter));
+            } else {
+                final StreamingStatistics statistics = new StreamingStatistics(storage);
+                mergeInto(meter, statistics);
+                summary = statistics;
+            }
+            summaries.put(meter, summary);
+        }
+        return summary;
+    }
+
+    /**
+     * Merging all data of one meter, including the data of the aggregated results, into streaming statistics.
+     *
+     * @param meter      the related meter
+     * @param statistics the statistics to merge into
+     */
+    private void mergeInto(final AbstractMeter meter, final StreamingStatistics statistics) {
+        final ResultStore store = meterResults.get(meter);
+        if (store != null) {
+            store.mergeInto(statistics);
+        }
+        for (final AbstractResult result : getAggregatedResults()) {
+            result.mergeInto(meter, statistics);
         }
     }
 
@@ -244,7 +519,36 @@ public abstract class AbstractResult {
      */
     @Override
     public String toString() {
-        return getElementName() + "\nmeters: " + getRegisteredMeters() + "\nresults: " + meterResults;
+        final Map<AbstractMeter, Collection<Double>> results = new LinkedHashMap<AbstractMeter, Collection<Double>>();
+        for (final AbstractMeter meter : getRegisteredMeters()) {
+            results.put(meter, getResultSet(meter));
+        }
+        return getElementName() + "\nmeters: " + getRegisteredMeters() + "\nresults: " + results;
+    }
+
+    /**
+     * Data of one meter of a result, to be sent to another JVM.
+     */
+    private static final class Aggregates implements Serializable {
+
+        /**
+         * Serial version uid.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Store of the data.
+         */
+        private final ResultStore store;
+
+        /**
+         * Constructor.
+         *
+         * @param paramStore store of the data
+         */
+        Aggregates(final ResultStore paramStore) {
+            store = paramStore;
+        }
     }
 
 }
@@ -44,16 +44,21 @@ public abstract class AbstractResultContainer<ResultType extends AbstractResult>
 	 *
 	 * @param paramElem
 	 *            related element
+	 * @param paramStorage
+	 *            kind of storing the data
 	 */
-	AbstractResultContainer(final Object paramElem) {
-		super(paramElem);
+	AbstractResultContainer(final Object paramElem,
+			final KindOfStorage paramStorage) {
+		super(paramElem, paramStorage);
 		elements = new Hashtable<Object, ResultType>();
 	}
 
 	/**
 	 * Getting all elements which are included in this result. That means:
 	 * {@link BenchmarkResult} contains {@link ClassResult}; {@link ClassResult}
-	 * contains {@link MethodResult};
+	 * contains {@link MethodResult}; {@link MethodResult} contains
+	 * {@link ConcurrencyResult}; {@link ConcurrencyResult} contains
+	 * {@link ThreadResult};
 	 *
 	 * @return a {@link Collection} of the included results.
 	 */
@@ -72,4 +77,61 @@ public abstract class AbstractResultContainer<ResultType extends AbstractResult>
 		return elements.get(obj);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	final Collection<ResultType> getAggregatedResults() {
+		return elements.values();
+	}
+
+	/**
+	 * Getting the result for one object, the result is created if not
+	 * existing.
+	 *
+	 * @param obj
+	 *            the object, can be a Class, a Method or an Integer
+	 * @return the result for this object
+	 */
+	final ResultType getOrCreateResult(final Object obj) {
+		ResultType result = elements.get(obj);
+		if (result == null) {
+			result = createResult(obj);
+			result.setParent(this);
+			elements.put(obj, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Creating a new included result for one object.
+	 *
+	 * @param obj
+	 *            the object, can be a Class, a Method or an Integer
+	 * @return the new result
+	 */
+	abstract ResultType createResult(final Object obj);
+
+	/**
+	 * Merging the data of another result into this result. The included
+	 * results are merged recursively, matched by their related elements, so
+	 * that shards of a benchmark, e.g. of parallel classes or forked JVMs, are
+	 * aggregated without replaying their values.
+	 *
+	 * @param other
+	 *            the result whose data is merged
+	 * @throws IllegalArgumentException
+	 *             if the data of the other result can not be merged into this
+	 *             result
+	 */
+	@Override
+	void mergeResult(final AbstractResult other) {
+		super.mergeResult(other);
+		for (final AbstractResult otherResult : other
+				.getAggregatedResults()) {
+			getOrCreateResult(otherResult.getRelatedElement()).mergeResult(
+					otherResult);
+		}
+	}
+
 }
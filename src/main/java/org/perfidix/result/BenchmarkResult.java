@@ -24,7 +24,13 @@ import org.perfidix.exceptions.AbstractPerfidixMethodException;
 import org.perfidix.meter.AbstractMeter;
 import org.perfidix.ouput.AbstractOutput;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 
@@ -45,22 +51,52 @@ public final class BenchmarkResult extends AbstractResultContainer<ClassResult>
      */
     private transient final Set<AbstractPerfidixMethodException> exceptions;
 
+    /**
+     * All warnings about the reliability of the results.
+     */
+    private transient final List<String> warnings;
+
+    /**
+     * Calibrated overhead of the meters.
+     */
+    private transient final Map<AbstractMeter, Double> overheads;
+
     /**
      * Outputs for listeners.
      */
     private transient final AbstractOutput[] outputs;
 
     /**
-     * Constructor.
+     * Constructor, keeping every value of the meters.
      *
      * @param paramOutputs {@link AbstractOutput} instances for listener
      */
     public BenchmarkResult(final AbstractOutput... paramOutputs) {
-        super(null);
+        this(KindOfStorage.Samples, paramOutputs);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param paramStorage kind of storing the values of the meters
+     * @param paramOutputs {@link AbstractOutput} instances for listener
+     */
+    public BenchmarkResult(final KindOfStorage paramStorage, final AbstractOutput... paramOutputs) {
+        super(null, paramStorage);
         this.exceptions = new HashSet<AbstractPerfidixMethodException>();
+        this.warnings = new ArrayList<String>();
+        this.overheads = new LinkedHashMap<AbstractMeter, Double>();
         outputs = paramOutputs;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ClassResult createResult(final Object obj) {
+        return new ClassResult((Class<?>) obj, getKindOfStorage());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -70,34 +106,141 @@ public final class BenchmarkResult extends AbstractResultContainer<ClassResult>
     }
 
     /**
-     * Adding a dataset to a given meter and adapting the underlaying result model.
+     * Adding a dataset to a given meter and adapting the underlaying result model. The data is stored only within the
+     * {@link MethodResult}, the {@link ClassResult} and this result aggregate it.
      *
      * @param meth  where the result is corresponding to
      * @param meter where the result is corresponding to
      * @param data  the data itself
      */
     public void addData(final BenchmarkMethod meth, final AbstractMeter meter, final double data) {
+        getMethodResult(meth).addData(meter, data);
+        notifyOutputs(meth, meter, data);
+    }
 
-        final Class<?> clazz = meth.getMethodToBench().getDeclaringClass();
-        if (!elements.containsKey(clazz)) {
-            elements.put(clazz, new ClassResult(clazz));
+    /**
+     * Notifying all outputs about a new dataset.
+     *
+     * @param meth  where the result is corresponding to
+     * @param meter where the result is corresponding to
+     * @param data  the data itself
+     */
+    private void notifyOutputs(final BenchmarkMethod meth, final AbstractMeter meter, final double data) {
+        for (final AbstractOutput output : outputs) {
+            output.listenToResultSet(meth, meter, data);
         }
 
-        final ClassResult clazzResult = elements.get(clazz);
+    }
 
-        if (!clazzResult.elements.containsKey(meth)) {
-            clazzResult.elements.put(meth, new MethodResult(meth));
-        }
+    /**
+     * Adding a dataset of one worker thread of a concurrent execution to a given meter and adapting the underlaying
+     * result model. The data is stored only within the {@link ThreadResult}, all other results aggregate it.
+     *
+     * @param meth    where the result is corresponding to
+     * @param threads number of threads of the concurrent execution
+     * @param thread  index of the worker thread
+     * @param meter   where the result is corresponding to
+     * @param data    the data itself
+     */
+    public void addData(final BenchmarkMethod meth, final int threads, final int thread, final AbstractMeter meter, final double data) {
+        getThreadResult(meth, threads, thread).addData(meter, data);
+        notifyOutputs(meth, meter, data);
+    }
 
-        final MethodResult methodResult = clazzResult.elements.get(meth);
-        methodResult.addData(meter, data);
-        clazzResult.addData(meter, data);
-        this.addData(meter, data);
+    /**
+     * Adding the data of a method got from {@link AbstractResult#getAggregates(AbstractMeter)} of the
+     * {@link MethodResult} of another result, e.g. of a forked JVM. The outputs are not notified since the values
+     * are possibly not kept.
+     *
+     * @param meth       where the data is corresponding to
+     * @param meter      where the data is corresponding to
+     * @param aggregates the data itself
+     */
+    public void addAggregates(final BenchmarkMethod meth, final AbstractMeter meter, final Serializable aggregates) {
+        getMethodResult(meth).addAggregates(meter, aggregates);
+    }
 
-        for (final AbstractOutput output : outputs) {
-            output.listenToResultSet(meth, meter, data);
-        }
+    /**
+     * Adding the data of one worker thread of a concurrent execution got from
+     * {@link AbstractResult#getAggregates(AbstractMeter)} of the {@link ThreadResult} of another result.
+     *
+     * @param meth       where the data is corresponding to
+     * @param threads    number of threads of the concurrent execution
+     * @param thread     index of the worker thread
+     * @param meter      where the data is corresponding to
+     * @param aggregates the data itself
+     */
+    public void addAggregates(final BenchmarkMethod meth, final int threads, final int thread, final AbstractMeter meter, final Serializable aggregates) {
+        getThreadResult(meth, threads, thread).addAggregates(meter, aggregates);
+    }
 
+    /**
+     * Adding the throughput of one concurrent run.
+     *
+     * @param meth       where the result is corresponding to
+     * @param threads    number of threads of the concurrent execution
+     * @param operations operations executed by all threads within the run
+     * @param time       wall-clock time of the run in nano seconds
+     */
+    public void addThroughput(final BenchmarkMethod meth, final int threads, final long operations, final long time) {
+        getConcurrencyResult(meth, threads).addRun(operations, time);
+    }
+
+    /**
+     * Adding one run of a method after its data is added.
+     *
+     * @param meth    where the run is corresponding to
+     * @param hitByGc  true if a garbage collection occured within the run
+     * @param hitByJit true if the JIT compiler compiled within the run
+     */
+    public void addRun(final BenchmarkMethod meth, final boolean hitByGc, final boolean hitByJit) {
+        getMethodResult(meth).addRun(hitByGc, hitByJit);
+    }
+
+    /**
+     * Adding several runs of a method at once after their data is added, e.g. the runs of a forked JVM. Flags beyond
+     * the added runs are ignored.
+     *
+     * @param meth     where the runs are corresponding to
+     * @param number   number of the added runs
+     * @param hitByGc  flags of the added runs hit by a garbage collection, indexed from 0
+     * @param hitByJit flags of the added runs taken while the JIT compiler was busy, indexed from 0
+     */
+    public void addRuns(final BenchmarkMethod meth, final int number, final BitSet hitByGc, final BitSet hitByJit) {
+        getMethodResult(meth).addRuns(number, hitByGc, hitByJit);
+    }
+
+    /**
+     * Getting the result of a method, the result is created if not existing.
+     *
+     * @param meth where the result is corresponding to
+     * @return the {@link MethodResult} of the method
+     */
+    private MethodResult getMethodResult(final BenchmarkMethod meth) {
+        return getOrCreateResult(meth.getMethodToBench().getDeclaringClass()).getOrCreateResult(meth);
+    }
+
+    /**
+     * Getting the result of a method for a number of threads, the result is created if not existing.
+     *
+     * @param meth    where the result is corresponding to
+     * @param threads number of threads of the concurrent execution
+     * @return the {@link ConcurrencyResult} of the method
+     */
+    private ConcurrencyResult getConcurrencyResult(final BenchmarkMethod meth, final int threads) {
+        return getMethodResult(meth).getOrCreateResult(threads);
+    }
+
+    /**
+     * Getting the result of one worker thread of a method, the result is created if not existing.
+     *
+     * @param meth    where the result is corresponding to
+     * @param threads number of threads of the concurrent execution
+     * @param thread  index of the worker thread
+     * @return the {@link ThreadResult} of the worker thread
+     */
+    private ThreadResult getThreadResult(final BenchmarkMethod meth, final int threads, final int thread) {
+        return getConcurrencyResult(meth, threads).getOrCreateResult(thread);
     }
 
     /**
@@ -121,6 +264,71 @@ public final class BenchmarkResult extends AbstractResultContainer<ClassResult>
         return exceptions;
     }
 
+    /**
+     * Adding a warning about the reliability of the results.
+     *
+     * @param warning to be stored
+     */
+    public void addWarning(final String warning) {
+        warnings.add(warning);
+    }
+
+    /**
+     * Getter for member warnings.
+     *
+     * @return the warnings
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Setting the calibrated overhead of a meter.
+     *
+     * @param meter    the calibrated meter
+     * @param overhead the overhead in the unit of the meter
+     */
+    public void setOverhead(final AbstractMeter meter, final double overhead) {
+        overheads.put(meter, overhead);
+    }
+
+    /**
+     * Getter for member overheads.
+     *
+     * @return the calibrated overhead of all calibrated meters
+     */
+    public Map<AbstractMeter, Double> getOverheads() {
+        return overheads;
+    }
+
+    /**
+     * Merging another result, e.g. the shard of one class executed in parallel, into this result. All data, runs,
+     * exceptions and warnings of the other result are added to this result as if they occured here. The data is merged
+     * per result, kept values are additionally notified to the outputs. If the other result does not keep its values,
+     * this result must not keep its values either.
+     *
+     * @param shard the result to be merged
+     * @throws IllegalArgumentException if the data of the other result can not be merged into this result
+     */
+    public void merge(final BenchmarkResult shard) {
+        mergeResult(shard);
+        for (final ClassResult classRes : shard.getIncludedResults()) {
+            for (final MethodResult methRes : classRes.getIncludedResults()) {
+                final BenchmarkMethod meth = (BenchmarkMethod) methRes.getRelatedElement();
+                for (final AbstractMeter meter : methRes.getRegisteredMeters()) {
+                    for (final double data : methRes.getResultSet(meter)) {
+                        notifyOutputs(meth, meter, data);
+                    }
+                }
+            }
+        }
+        for (final AbstractPerfidixMethodException exec : shard.getExceptions()) {
+            addException(exec);
+        }
+        warnings.addAll(shard.getWarnings());
+        overheads.putAll(shard.getOverheads());
+    }
+
     /**
      * {@inheritDoc}
      */
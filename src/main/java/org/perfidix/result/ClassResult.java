@@ -18,10 +18,14 @@
  */
 package org.perfidix.result;
 
+
+import org.perfidix.element.BenchmarkMethod;
+
+
 /**
  * This class holds all results related to a benchmarked class. That means that, given a Set with {@link MethodResult}
- * objects, these objects are stored in this class plus the data is extracted from these {@link MethodResult} objects
- * and stored in this class. So, every statistical analysis is made on the base of the overall benchmarked data.
+ * objects, these objects are stored in this class and the data of these {@link MethodResult} objects is aggregated by
+ * this class. So, every statistical analysis is made on the base of the overall benchmarked data.
  *
  * @author Sebastian Graf, University of Konstanz
  * @author Alexander Onea, neue Couch
@@ -29,12 +33,30 @@ package org.perfidix.result;
 public final class ClassResult extends AbstractResultContainer<MethodResult> {
 
     /**
-     * Constructor.
+     * Constructor, keeping every value of the meters.
      *
      * @param paramClass class of these results
      */
     public ClassResult(final Class<?> paramClass) {
-        super(paramClass);
+        this(paramClass, KindOfStorage.Samples);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param paramClass class of these results
+     * @param paramStorage kind of storing the data
+     */
+    public ClassResult(final Class<?> paramClass, final KindOfStorage paramStorage) {
+        super(paramClass, paramStorage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    MethodResult createResult(final Object obj) {
+        return new MethodResult((BenchmarkMethod) obj, getKindOfStorage());
     }
 
     /**
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+/**
+ * This class holds all results related to a benchmarked method executed concurrently on a fixed number of threads.
+ * The data of each worker thread is stored in the included {@link ThreadResult} objects and aggregated by this class.
+ * Besides the data of the meters, the throughput of all threads together is stored.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ConcurrencyResult extends AbstractResultContainer<ThreadResult> {
+
+    /**
+     * Number of nano seconds in one second.
+     */
+    private static final double NANOS_PER_SECOND = 1000000000d;
+
+    /**
+     * Operations executed by all threads.
+     */
+    private transient long operations;
+
+    /**
+     * Wall-clock time of all concurrent runs in nano seconds.
+     */
+    private transient long time;
+
+    /**
+     * Constructor.
+     *
+     * @param paramThreads number of threads of these results
+     * @param paramStorage kind of storing the data
+     */
+    public ConcurrencyResult(final Integer paramThreads, final KindOfStorage paramStorage) {
+        super(paramThreads, paramStorage);
+    }
+
+    /**
+     * Getting the number of threads these results are related to.
+     *
+     * @return the number of threads
+     */
+    public int getNumberOfThreads() {
+        return (Integer) getRelatedElement();
+    }
+
+    /**
+     * Getting the throughput of all threads together.
+     *
+     * @return the operations per second, 0 if no run was stored
+     */
+    public double getThroughput() {
+        if (time == 0) {
+            return 0;
+        }
+        return operations * NANOS_PER_SECOND / time;
+    }
+
+    /**
+     * Getting the operations executed by all threads.
+     *
+     * @return the operations
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * Getting the wall-clock time of all runs.
+     *
+     * @return the time in nano seconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Adding one concurrent run.
+     *
+     * @param paramOperations operations executed by all threads within the run
+     * @param paramTime       wall-clock time of the run in nano seconds
+     */
+    void addRun(final long paramOperations, final long paramTime) {
+        operations = operations + paramOperations;
+        time = time + paramTime;
+    }
+
+    /**
+     * Merging the data and the throughput of another concurrency result into this result.
+     *
+     * @param other the result whose data is merged
+     */
+    @Override
+    void mergeResult(final AbstractResult other) {
+        super.mergeResult(other);
+        final ConcurrencyResult otherConcurrency = (ConcurrencyResult) other;
+        addRun(otherConcurrency.getOperations(), otherConcurrency.getTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ThreadResult createResult(final Object obj) {
+        return new ThreadResult((Integer) obj, getKindOfStorage());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getElementName() {
+        return getRelatedElement() + " threads";
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+
+/**
+ * Histogram with logarithmic buckets over a high dynamic range of values, in the style of an HdrHistogram. Each power
+ * of two is divided into {@link #SUB_BUCKETS} linear buckets, so the relative error of each estimated percentile is
+ * bounded by half of a bucket, less than 0.4 percent, regardless of the magnitude of the values. Negative values are
+ * counted within own, mirrored buckets. Recording a value only allocates if it falls outside of all values recorded so far, the
+ * buckets are therefore allocated within the first runs. Histograms of different results, e.g. of classes, threads or
+ * forks, can be merged without loss. Histograms are serializable to be sent to other JVMs.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class Histogram implements Serializable {
+
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of mantissa bits distinguishing the buckets within one power of two.
+     */
+    private static final int PRECISION_BITS = 7;
+
+    /**
+     * Number of buckets within one power of two.
+     */
+    public static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+
+    /**
+     * Number of bits dropped from the representation of a value to get its bucket.
+     */
+    private static final int SHIFT = 52 - PRECISION_BITS;
+
+    /**
+     * Minimal number of buckets allocated at once.
+     */
+    private static final int INITIAL_BUCKETS = SUB_BUCKETS;
+
+    /**
+     * Buckets of the positive values.
+     */
+    private final Buckets positive;
+
+    /**
+     * Buckets of the negative values, mirrored.
+     */
+    private final Buckets negative;
+
+    /**
+     * Number of recorded zeros.
+     */
+    private long zeros;
+
+    /**
+     * Number of recorded values.
+     */
+    private long count;
+
+    /**
+     * Number of ignored values, being {@link Double#NaN}.
+     */
+    private long ignored;
+
+    /**
+     * Minimum of the recorded values.
+     */
+    private double min;
+
+    /**
+     * Maximum of the recorded values.
+     */
+    private double max;
+
+    /**
+     * Constructor for an empty histogram.
+     */
+    public Histogram() {
+        positive = new Buckets();
+        negative = new Buckets();
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param other the histogram to be copied
+     */
+    public Histogram(final Histogram other) {
+        this();
+        add(other);
+    }
+
+    /**
+     * Recording a value. {@link Double#NaN} is ignored, but counted by {@link #getIgnored()}.
+     *
+     * @param value to be recorded
+     */
+    public void record(final double value) {
+        if (Double.isNaN(value)) {
+            ignored++;
+            return;
+        }
+        if (value > 0) {
+            positive.increment(getBucket(value));
+        } else if (value < 0) {
+            negative.increment(getBucket(-value));
+        } else {
+            zeros++;
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merging another histogram into this histogram.
+     *
+     * @param other the histogram to be merged
+     */
+    public void add(final Histogram other) {
+        positive.add(other.positive);
+        negative.add(other.negative);
+        zeros += other.zeros;
+        count += other.count;
+        ignored += other.ignored;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Getting the number of recorded values.
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getting the number of ignored values, being {@link Double#NaN}.
+     *
+     * @return the number of ignored values
+     */
+    public long getIgnored() {
+        return ignored;
+    }
+
+    /**
+     * Getting the exact minimum of the recorded values.
+     *
+     * @return the minimum, {@link Double#NaN} if empty
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * Getting the exact maximum of the recorded values.
+     *
+     * @return the maximum, {@link Double#NaN} if empty
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Getting an estimation of a percentile, e.g. 99.9. The estimation is the middle of the bucket containing the value
+     * at the rank of the percentile, bounded by the minimum and maximum.
+     *
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the estimated value of the percentile, {@link Double#NaN} if empty
+     */
+    public double getPercentile(final double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within (0, 100]");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = negative.counts.length - 1; i >= 0; i--) {
+            seen += negative.counts[i];
+            if (seen >= rank) {
+                return bound(-getMiddle(negative.offset + i));
+            }
+        }
+        seen += zeros;
+        if (seen >= rank) {
+            return bound(0);
+        }
+        for (int i = 0; i < positive.counts.length; i++) {
+            seen += positive.counts[i];
+            if (seen >= rank) {
+                return bound(getMiddle(positive.offset + i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Bounding an estimated value by the minimum and maximum.
+     *
+     * @param value the estimated value
+     * @return the bounded value
+     */
+    private double bound(final double value) {
+        return Math.min(max, Math.max(min, value));
+    }
+
+    /**
+     * Getting the bucket of a positive value. The buckets follow the ordering of the bit representation of positive
+     * values.
+     *
+     * @param value the positive value
+     * @return the bucket
+     */
+    private static int getBucket(final double value) {
+        return (int) (Double.doubleToRawLongBits(value) >>> SHIFT);
+    }
+
+    /**
+     * Getting the middle of the values of a bucket.
+     *
+     * @param bucket the bucket
+     * @return the middle value
+     */
+    private static double getMiddle(final int bucket) {
+        final double lower = Double.longBitsToDouble((long) bucket << SHIFT);
+        final double upper = Double.longBitsToDouble((long) (bucket + 1) << SHIFT);
+        return lower + (upper - lower) / 2;
+    }
+
+    /**
+     * Counts of a contiguous range of buckets, growing on demand.
+     */
+    private static final class Buckets implements Serializable {
+
+        /**
+         * Serial version uid.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Counts of the buckets, the first count belongs to the bucket {@link #offset}.
+         */
+        private long[] counts = new long[0];
+
+        /**
+         * Bucket of the first count.
+         */
+        private int offset;
+
+        /**
+         * Incrementing the count of a bucket.
+         *
+         * @param bucket the bucket
+         */
+        void increment(final int bucket) {
+            ensure(bucket);
+            counts[bucket - offset]++;
+        }
+
+        /**
+         * Adding the counts of other buckets.
+         *
+         * @param other the buckets to be added
+         */
+        void add(final Buckets other) {
+            if (other.counts.length == 0) {
+                return;
+            }
+            ensure(other.offset);
+            ensure(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+
+        /**
+         * Ensuring that the counts cover a bucket, growing them if necessary by at least their current length.
+         *
+         * @param bucket the bucket to be covered
+         */
+        private void ensure(final int bucket) {
+            if (counts.length == 0) {
+                counts = new long[INITIAL_BUCKETS];
+                offset = bucket - INITIAL_BUCKETS / 2;
+            } else if (bucket < offset) {
+                final int grow = Math.max(offset - bucket, counts.length);
+                final long[] grown = new long[counts.length + grow];
+                System.arraycopy(counts, 0, grown, grow, counts.length);
+                counts = grown;
+                offset -= grow;
+            } else if (bucket >= offset + counts.length) {
+                final int grow = Math.max(bucket - offset - counts.length + 1, counts.length);
+                counts = Arrays.copyOf(counts, counts.length + grow);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder("Histogram[count=").append(count).append(", ignored=").append(ignored).append(", min=").append(getMin()).append(", max=")
+                .append(getMax()).append("]").toString();
+    }
+
+}
@@ -21,23 +21,164 @@ package org.perfidix.result;
 
 import org.perfidix.element.BenchmarkMethod;
 
+import java.util.BitSet;
+
 
 /**
  * Class to hold the result related to one method. That means that all information is inherited from the
- * {@link ClassResult} plus the possibility to add additional datasets.
+ * {@link ClassResult} plus the possibility to add additional datasets. If the method is executed concurrently, the
+ * results are additionally stored per number of threads in {@link ConcurrencyResult} objects. Runs hit by a garbage
+ * collection or taken while the JIT compiler was busy are flagged to be filtered or reported separately.
  *
  * @author Sebastian Graf, University of Konstanz
  * @author Alexander Onea, neue Couch
  */
-public final class MethodResult extends AbstractResult {
+public final class MethodResult extends AbstractResultContainer<ConcurrencyResult> {
 
     /**
-     * Simple Constructor.
+     * Number of stored runs.
+     */
+    private transient int runs;
+
+    /**
+     * Flags of the runs hit by a garbage collection, indexed by the run.
+     */
+    private transient final BitSet gcRuns;
+
+    /**
+     * Flags of the runs taken while the JIT compiler was busy, indexed by the run.
+     */
+    private transient final BitSet jitRuns;
+
+    /**
+     * Simple Constructor, keeping every value of the meters.
      *
      * @param meth , the method related to these results
      */
     public MethodResult(final BenchmarkMethod meth) {
-        super(meth);
+        this(meth, KindOfStorage.Samples);
+    }
+
+    /**
+     * Simple Constructor.
+     *
+     * @param meth , the method related to these results
+     * @param paramStorage kind of storing the data
+     */
+    public MethodResult(final BenchmarkMethod meth, final KindOfStorage paramStorage) {
+        super(meth, paramStorage);
+        gcRuns = new BitSet();
+        jitRuns = new BitSet();
+    }
+
+    /**
+     * Getting the number of stored runs. A concurrent execution on a given number of threads counts as one run.
+     *
+     * @return the number of runs
+     */
+    public int getNumberOfRuns() {
+        return runs;
+    }
+
+    /**
+     * Getting the runs hit by a garbage collection, each run is flagged by the bit of its index. For a method not
+     * executed concurrently, the index of a run is the index of its data within the result set of each meter.
+     *
+     * @return a copy of the flags of the runs hit by a garbage collection
+     */
+    public BitSet getRunsHitByGc() {
+        return (BitSet) gcRuns.clone();
+    }
+
+    /**
+     * Checking if a run is hit by a garbage collection.
+     *
+     * @param run index of the run
+     * @return true if a garbage collection occured within the run, false otherwise
+     */
+    public boolean isHitByGc(final int run) {
+        return gcRuns.get(run);
+    }
+
+    /**
+     * Getting the runs taken while the JIT compiler was busy, each run is flagged by the bit of its index.
+     *
+     * @return a copy of the flags of the runs taken while the JIT compiler was busy
+     * @see #getRunsHitByGc()
+     */
+    public BitSet getRunsHitByJit() {
+        return (BitSet) jitRuns.clone();
+    }
+
+    /**
+     * Checking if a run is taken while the JIT compiler was busy.
+     *
+     * @param run index of the run
+     * @return true if the JIT compiler compiled within the run, false otherwise
+     */
+    public boolean isHitByJit(final int run) {
+        return jitRuns.get(run);
+    }
+
+    /**
+     * Adding one run.
+     *
+     * @param hitByGc  true if a garbage collection occured within the run
+     * @param hitByJit true if the JIT compiler compiled within the run
+     */
+    void addRun(final boolean hitByGc, final boolean hitByJit) {
+        gcRuns.set(runs, hitByGc);
+        jitRuns.set(runs, hitByJit);
+        runs++;
+    }
+
+    /**
+     * Adding several runs at once, appended to the stored runs.
+     *
+     * @param number   number of the added runs
+     * @param hitByGc  flags of the added runs hit by a garbage collection, indexed from 0, flags beyond the added runs
+     *                 are ignored
+     * @param hitByJit flags of the added runs taken while the JIT compiler was busy, indexed from 0, flags beyond the
+     *                 added runs are ignored
+     */
+    void addRuns(final int number, final BitSet hitByGc, final BitSet hitByJit) {
+        append(gcRuns, hitByGc, number);
+        append(jitRuns, hitByJit, number);
+        runs += number;
+    }
+
+    /**
+     * Appending flags after the stored runs.
+     *
+     * @param flags    the flags of the stored runs
+     * @param appended the flags to be appended, indexed from 0
+     * @param number   number of the appended runs
+     */
+    private void append(final BitSet flags, final BitSet appended, final int number) {
+        for (int run = appended.nextSetBit(0); run >= 0 && run < number; run = appended.nextSetBit(run + 1)) {
+            flags.set(runs + run);
+        }
+    }
+
+    /**
+     * Merging the data and the runs of another method result into this result. The runs of the other result are
+     * appended to the runs of this result.
+     *
+     * @param other the result whose data is merged
+     */
+    @Override
+    void mergeResult(final AbstractResult other) {
+        super.mergeResult(other);
+        final MethodResult otherMethod = (MethodResult) other;
+        addRuns(otherMethod.runs, otherMethod.gcRuns, otherMethod.jitRuns);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    ConcurrencyResult createResult(final Object obj) {
+        return new ConcurrencyResult((Integer) obj, getKindOfStorage());
     }
 
     /**
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+
+
+/**
+ * Mergeable quantile sketch after Karnin, Lang and Liberty (KLL). The values are kept within a hierarchy of
+ * compactors, a value at level h represents 2^h values. If a level is full, it is sorted and every second value is
+ * promoted to the next level. The capacity of the levels decreases geometrically from the top level, so the sketch
+ * keeps O(k log(n / k)) values. The rank error of each quantile is in the order of 1 / k, independent of the order of
+ * the values and of the number of merged sketches.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class QuantileSketch implements Serializable {
+
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Capacity of the top level, controlling the accuracy.
+     */
+    static final int K = 200;
+
+    /**
+     * Factor of the capacity of each level compared to the level above.
+     */
+    private static final double DECAY = 2d / 3d;
+
+    /**
+     * Minimal capacity of a level.
+     */
+    private static final int MIN_CAPACITY = 2;
+
+    /**
+     * Seed of the random generator, making estimations reproducible.
+     */
+    private static final long SEED = 1L;
+
+    /**
+     * Random generator choosing the promoted values.
+     */
+    private final Random random;
+
+    /**
+     * Values of the levels, each valid up to its size.
+     */
+    private double[][] levels;
+
+    /**
+     * Number of values within each level.
+     */
+    private int[] sizes;
+
+    /**
+     * Number of values within all levels.
+     */
+    private int size;
+
+    /**
+     * Maximal number of values within all levels before compacting.
+     */
+    private int maxSize;
+
+    /**
+     * Constructor.
+     */
+    QuantileSketch() {
+        random = new Random(SEED);
+        levels = new double[0][];
+        sizes = new int[0];
+        grow();
+    }
+
+    /**
+     * Adding a value.
+     *
+     * @param value to be added
+     */
+    void add(final double value) {
+        append(0, value);
+        size++;
+        if (size >= maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Merging another sketch into this sketch.
+     *
+     * @param other the sketch to be merged
+     */
+    void merge(final QuantileSketch other) {
+        while (levels.length < other.levels.length) {
+            grow();
+        }
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        size += other.size;
+        while (size >= maxSize) {
+            compress();
+        }
+    }
+
+    /**
+     * Getting an estimation of a percentile. The estimation is the smallest kept value whose weighted rank reaches the
+     * rank of the percentile.
+     *
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the estimated value of the percentile, {@link Double#NaN} if empty
+     */
+    double getPercentile(final double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within (0, 100]");
+        }
+        if (size == 0) {
+            return Double.NaN;
+        }
+        // sorting each level on its own, the weight of all values of a level is the same
+        final double[][] sorted = new double[levels.length][];
+        long total = 0;
+        for (int level = 0; level < levels.length; level++) {
+            sorted[level] = Arrays.copyOf(levels[level], sizes[level]);
+            Arrays.sort(sorted[level]);
+            total += (long) sizes[level] << level;
+        }
+        // merging the sorted levels in ascending order of the values
+        final double rank = percentile / 100 * total;
+        final int[] positions = new int[levels.length];
+        long seen = 0;
+        double value = Double.NaN;
+        while (true) {
+            int next = -1;
+            for (int level = 0; level < levels.length; level++) {
+                if (positions[level] < sizes[level] && (next < 0 || Double.compare(sorted[level][positions[level]], sorted[next][positions[next]]) < 0)) {
+                    next = level;
+                }
+            }
+            if (next < 0) {
+                return value;
+            }
+            value = sorted[next][positions[next]++];
+            seen += 1L << next;
+            if (seen >= rank) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Appending a value to a level, growing the level if necessary.
+     *
+     * @param level the level
+     * @param value the value
+     */
+    private void append(final int level, final double value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(MIN_CAPACITY, sizes[level] << 1));
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    /**
+     * Compacting the lowest full level, promoting every second of its sorted values to the next level.
+     */
+    private void compress() {
+        for (int level = 0; level < levels.length; level++) {
+            if (sizes[level] >= getCapacity(level)) {
+                if (level + 1 == levels.length) {
+                    grow();
+                }
+                final double[] values = levels[level];
+                final int length = sizes[level];
+                Arrays.sort(values, 0, length);
+                // an odd value stays within the level
+                final int compacted = length & ~1;
+                for (int i = random.nextBoolean() ? 1 : 0; i < compacted; i += 2) {
+                    append(level + 1, values[i]);
+                }
+                values[0] = values[length - 1];
+                sizes[level] = length - compacted;
+                size -= compacted / 2;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adding a new top level, decreasing the capacity of all lower levels.
+     */
+    private void grow() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        levels[levels.length - 1] = new double[0];
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        maxSize = 0;
+        for (int level = 0; level < levels.length; level++) {
+            maxSize += getCapacity(level);
+        }
+    }
+
+    /**
+     * Getting the capacity of a level.
+     *
+     * @param level the level
+     * @return the capacity
+     */
+    private int getCapacity(final int level) {
+        final int depth = levels.length - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(K * Math.pow(DECAY, depth)));
+    }
+
+}
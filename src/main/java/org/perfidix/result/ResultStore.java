@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import java.io.Serializable;
+
+
+/**
+ * Store of the data of one meter within one result. Stores are serializable to be sent to other JVMs.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+interface ResultStore extends Serializable {
+
+    /**
+     * Adding a value.
+     *
+     * @param value to be added
+     */
+    void add(double value);
+
+    /**
+     * Getting the number of added values.
+     *
+     * @return the number of values
+     */
+    int size();
+
+    /**
+     * Adding all values of another store.
+     *
+     * @param other the store whose values are added
+     * @throws IllegalArgumentException if the other store does not keep the values needed by this store
+     */
+    void addAll(ResultStore other);
+
+    /**
+     * Copying all kept values into an array.
+     *
+     * @param dest   the array to copy to
+     * @param offset position of the first value within the array
+     * @return the position after the last copied value
+     */
+    int copyTo(double[] dest, int offset);
+
+    /**
+     * Recording all added values into a histogram.
+     *
+     * @param histogram the histogram to record into
+     */
+    void recordInto(Histogram histogram);
+
+    /**
+     * Merging all added values into streaming statistics.
+     *
+     * @param statistics the statistics to merge into
+     */
+    void mergeInto(StreamingStatistics statistics);
+
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import java.util.Arrays;
+
+
+/**
+ * Snapshot of the summary statistics of the data of one meter. All moments are computed within a single pass over the
+ * data, the data is sorted once for all percentiles.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class ResultSummary implements Statistics {
+
+    /**
+     * The sorted data.
+     */
+    private final double[] sorted;
+
+    /**
+     * Sum of the data.
+     */
+    private final double sum;
+
+    /**
+     * Sum of the squares of the data.
+     */
+    private final double squareSum;
+
+    /**
+     * Sum of the squared differences from the mean, updated after Welford.
+     */
+    private final double m2;
+
+    /**
+     * Constructor, computing the statistics of the given data.
+     *
+     * @param values the data, the array is sorted and kept by this summary
+     */
+    ResultSummary(final double[] values) {
+        double valueSum = 0;
+        double valueSquareSum = 0;
+        double valueMean = 0;
+        double valueM2 = 0;
+        for (int i = 0; i < values.length; i++) {
+            final double value = values[i];
+            valueSum += value;
+            valueSquareSum += value * value;
+            final double delta = value - valueMean;
+            valueMean += delta / (i + 1);
+            valueM2 += delta * (value - valueMean);
+        }
+        Arrays.sort(values);
+        sorted = values;
+        sum = valueSum;
+        squareSum = valueSquareSum;
+        m2 = valueM2;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCount() {
+        return sorted.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSum() {
+        return sorted.length == 0 ? Double.NaN : sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSquareSum() {
+        return sorted.length == 0 ? Double.NaN : squareSum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        return sorted.length == 0 ? Double.NaN : sum / sorted.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStandardDeviation() {
+        switch (sorted.length) {
+            case 0:
+                return Double.NaN;
+            case 1:
+                return 0;
+            default:
+                return Math.sqrt(m2 / (sorted.length - 1));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMin() {
+        return sorted.length == 0 ? Double.NaN : sorted[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMax() {
+        return sorted.length == 0 ? Double.NaN : sorted[sorted.length - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPercentile(final double percentile) {
+        return getPercentile(sorted, sorted.length, percentile);
+    }
+
+    /**
+     * Getting a percentile of sorted values, estimated the same way as by
+     * {@link org.apache.commons.math.stat.descriptive.rank.Percentile}.
+     *
+     * @param sorted     the sorted values
+     * @param length     the number of values within the array
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the value of the percentile, {@link Double#NaN} if empty
+     */
+    static double getPercentile(final double[] sorted, final int length, final double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within (0, 100]");
+        }
+        if (length == 0) {
+            return Double.NaN;
+        }
+        if (length == 1) {
+            return sorted[0];
+        }
+        final double pos = percentile * (length + 1) / 100;
+        final double fpos = Math.floor(pos);
+        final int intPos = (int) fpos;
+        if (pos < 1) {
+            return sorted[0];
+        }
+        if (pos >= length) {
+            return sorted[length - 1];
+        }
+        final double lower = sorted[intPos - 1];
+        final double upper = sorted[intPos];
+        return lower + (pos - fpos) * (upper - lower);
+    }
+
+}
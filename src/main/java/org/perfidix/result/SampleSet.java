@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import java.util.Arrays;
+
+
+/**
+ * Growable set of primitive samples of one meter. The samples are stored within a single <code>double</code> array
+ * which is doubled if full, so that each sample costs 8 bytes instead of a boxed value within a linked list.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class SampleSet implements ResultStore {
+
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The samples, valid up to {@link #size}.
+     */
+    private double[] samples;
+
+    /**
+     * Number of stored samples.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    SampleSet() {
+        samples = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final double value) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size << 1);
+        }
+        samples[size++] = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addAll(final ResultStore other) {
+        if (!(other instanceof SampleSet)) {
+            throw new IllegalArgumentException("Only kept values can be added to kept values");
+        }
+        final SampleSet set = (SampleSet) other;
+        for (int i = 0; i < set.size; i++) {
+            add(set.samples[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int copyTo(final double[] dest, final int offset) {
+        System.arraycopy(samples, 0, dest, offset, size);
+        return offset + size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordInto(final Histogram histogram) {
+        for (int i = 0; i < size; i++) {
+            histogram.record(samples[i]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeInto(final StreamingStatistics statistics) {
+        for (int i = 0; i < size; i++) {
+            statistics.add(samples[i]);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+/**
+ * Summary statistics of the data of one meter. All statistics are {@link Double#NaN} if no data is available.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+interface Statistics {
+
+    /**
+     * Getting the number of values.
+     *
+     * @return the number of values
+     */
+    int getCount();
+
+    /**
+     * Getting the sum.
+     *
+     * @return the sum
+     */
+    double getSum();
+
+    /**
+     * Getting the sum of the squares.
+     *
+     * @return the square sum
+     */
+    double getSquareSum();
+
+    /**
+     * Getting the arithmetic mean.
+     *
+     * @return the mean
+     */
+    double getMean();
+
+    /**
+     * Getting the bias-corrected standard deviation.
+     *
+     * @return the standard deviation
+     */
+    double getStandardDeviation();
+
+    /**
+     * Getting the minimum.
+     *
+     * @return the minimum
+     */
+    double getMin();
+
+    /**
+     * Getting the maximum.
+     *
+     * @return the maximum
+     */
+    double getMax();
+
+    /**
+     * Getting a percentile.
+     *
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the value of the percentile
+     */
+    double getPercentile(double percentile);
+
+}
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+/**
+ * Streaming statistics of the data of one meter, using constant memory regardless of the number of values. Count, sum,
+ * square sum, minimum and maximum are kept exactly, mean and variance are updated after Welford. The values are
+ * recorded within a {@link Histogram}, the only histogram kept per meter. The percentiles are estimated either from
+ * the histogram with a bounded relative error of the values or from a {@link QuantileSketch} with a bounded error of
+ * the ranks. Both estimators are merged without growing their error.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+final class StreamingStatistics implements Statistics, ResultStore {
+
+    /**
+     * Serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Histogram of the values, also estimating the percentiles if there is no sketch.
+     */
+    private final Histogram histogram;
+
+    /**
+     * Sketch for the percentiles, <code>null</code> if estimated by the histogram.
+     */
+    private final QuantileSketch sketch;
+
+    /**
+     * Number of values.
+     */
+    private long count;
+
+    /**
+     * Running mean.
+     */
+    private double mean;
+
+    /**
+     * Running sum of the squared differences from the mean.
+     */
+    private double m2;
+
+    /**
+     * Sum of the values.
+     */
+    private double sum;
+
+    /**
+     * Sum of the squares of the values.
+     */
+    private double squareSum;
+
+    /**
+     * Minimum of the values.
+     */
+    private double min;
+
+    /**
+     * Maximum of the values.
+     */
+    private double max;
+
+    /**
+     * Constructor.
+     *
+     * @param storage {@link KindOfStorage#Streaming} to estimate the percentiles from a histogram,
+     *                {@link KindOfStorage#Sketch} to estimate them from a sketch
+     */
+    StreamingStatistics(final KindOfStorage storage) {
+        histogram = new Histogram();
+        if (storage == KindOfStorage.Sketch) {
+            sketch = new QuantileSketch();
+        } else {
+            sketch = null;
+        }
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final double value) {
+        count++;
+        final double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sum += value;
+        squareSum += value * value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        histogram.record(value);
+        if (sketch != null) {
+            sketch.add(value);
+        }
+    }
+
+    /**
+     * Merging other statistics into these statistics. The moments are combined exactly, the estimators of the
+     * percentiles are merged.
+     *
+     * @param other the statistics to be merged
+     */
+    void merge(final StreamingStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if ((sketch == null) != (other.sketch == null)) {
+            throw new IllegalArgumentException("Statistics with different estimators of the percentiles can not be merged");
+        }
+        final long combined = count + other.count;
+        final double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * count / combined * other.count;
+        mean += delta * other.count / combined;
+        sum += other.sum;
+        squareSum += other.squareSum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        count = combined;
+        histogram.add(other.histogram);
+        if (sketch != null) {
+            sketch.merge(other.sketch);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addAll(final ResultStore other) {
+        other.mergeInto(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int copyTo(final double[] dest, final int offset) {
+        // the values themselves are not kept
+        return offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordInto(final Histogram other) {
+        other.add(histogram);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeInto(final StreamingStatistics statistics) {
+        statistics.merge(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCount() {
+        return size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSum() {
+        return count == 0 ? Double.NaN : sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSquareSum() {
+        return count == 0 ? Double.NaN : squareSum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return count == 1 ? 0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Getting an estimation of a percentile, see {@link Histogram#getPercentile(double)} and
+     * {@link QuantileSketch#getPercentile(double)}.
+     *
+     * @param percentile the percentile, between 0 (exclusive) and 100 (inclusive)
+     * @return the estimated value of the percentile, {@link Double#NaN} if empty
+     */
+    @Override
+    public double getPercentile(final double percentile) {
+        if (sketch == null) {
+            return histogram.getPercentile(percentile);
+        }
+        return sketch.getPercentile(percentile);
+    }
+
+}
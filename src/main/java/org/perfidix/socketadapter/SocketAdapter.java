@@ -30,6 +30,7 @@ import org.perfidix.ouput.TabularSummaryOutput;
 import org.perfidix.result.BenchmarkResult;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The SocketAdapter is the main-class for registration of the classes that will
@@ -84,10 +85,85 @@ public final class SocketAdapter {
 		Set<AbstractOutput> listeners = new HashSet<AbstractOutput>();
 		listeners.addAll(Arrays.asList(outputs));
 
-		// Building up the benchmark object
+		// Building up the benchmark object, forks are not supported since
+		// this config can not be instantiated within a forked JVM
 		final AbstractConfig newConf = new AbstractConfig(oldConf.getRuns(),
 				meters, listeners, oldConf.getArrangement(),
 				oldConf.getGcProb()) {
+			@Override
+			public int getWarmupRuns() {
+				return oldConf.getWarmupRuns();
+			}
+
+			@Override
+			public double getWarmupThreshold() {
+				return oldConf.getWarmupThreshold();
+			}
+
+			@Override
+			public int getWarmupWindow() {
+				return oldConf.getWarmupWindow();
+			}
+
+			@Override
+			public int getOperations() {
+				return oldConf.getOperations();
+			}
+
+			@Override
+			public TimeUnit getTimeUnit() {
+				return oldConf.getTimeUnit();
+			}
+
+			@Override
+			public long getBatchTime() {
+				return oldConf.getBatchTime();
+			}
+
+			@Override
+			public long getMinTime() {
+				return oldConf.getMinTime();
+			}
+
+			@Override
+			public long getMaxTime() {
+				return oldConf.getMaxTime();
+			}
+
+			@Override
+			public int getMinRuns() {
+				return oldConf.getMinRuns();
+			}
+
+			@Override
+			public int getMaxRuns() {
+				return oldConf.getMaxRuns();
+			}
+
+			@Override
+			public double getConfidenceWidth() {
+				return oldConf.getConfidenceWidth();
+			}
+
+			@Override
+			public double getConfidenceLevel() {
+				return oldConf.getConfidenceLevel();
+			}
+
+			@Override
+			public int getParallelism() {
+				return oldConf.getParallelism();
+			}
+
+			@Override
+			public int getOverheadRuns() {
+				return oldConf.getOverheadRuns();
+			}
+
+			@Override
+			public boolean isOverheadSubtracted() {
+				return oldConf.isOverheadSubtracted();
+			}
 		};
 		benchmark = new Benchmark(newConf);
 
@@ -24,15 +24,28 @@ import org.junit.Before;
 import org.junit.Test;
 import org.perfidix.AbstractConfig.StandardConfig;
 import org.perfidix.annotation.BeforeBenchClass;
+import org.perfidix.annotation.Threads;
 import org.perfidix.benchmarktests.BeforeBenchClassError;
+import org.perfidix.benchmarktests.ClassForkConfig;
+import org.perfidix.benchmarktests.CountingBench;
+import org.perfidix.benchmarktests.ForkConfig;
+import org.perfidix.benchmarktests.InvalidThreadsBench;
 import org.perfidix.benchmarktests.NormalBenchForClassAndObjectAdd;
 import org.perfidix.benchmarktests.NormalCompleteBench;
 import org.perfidix.benchmarktests.NormalIncompleteBench;
+import org.perfidix.benchmarktests.ParallelConfig;
+import org.perfidix.benchmarktests.SketchForkConfig;
+import org.perfidix.benchmarktests.SleepingBench;
+import org.perfidix.benchmarktests.TwoMeterForkConfig;
 import org.perfidix.element.BenchmarkMethod;
 import org.perfidix.exceptions.AbstractPerfidixMethodException;
 import org.perfidix.exceptions.PerfidixMethodCheckException;
+import org.perfidix.meter.CountingMeter;
 import org.perfidix.result.BenchmarkResult;
+import org.perfidix.result.ClassResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -62,6 +75,7 @@ public final class BenchmarkTest {
     @After
     public void tearDown() throws Exception {
         NormalCompleteBench.reset();
+        CountingBench.reset();
     }
 
     /**
@@ -79,6 +93,20 @@ public final class BenchmarkTest {
 
     }
 
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with an invalid number of threads.
+     */
+    @Test
+    public void testRunInvalidThreads() {
+        benchmark.add(InvalidThreadsBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("One Exception should be registered", 1, benchRes.getExceptions().size());
+        final AbstractPerfidixMethodException exec = benchRes.getExceptions().iterator().next();
+        assertTrue("The Exception should be a check exception", exec instanceof PerfidixMethodCheckException);
+        assertEquals("The related Anno should be Threads", Threads.class, exec.getRelatedAnno());
+        assertEquals("The related Exception should be an IllegalArgumentException", IllegalArgumentException.class, exec.getExec().getClass());
+    }
+
     /**
      * Test method for {@link org.perfidix.Benchmark#run()} .
      *
@@ -187,4 +215,176 @@ public final class BenchmarkTest {
         benchmark.add(NormalBenchForClassAndObjectAdd.class);
     }
 
+    /**
+     * Test method for {@link org.perfidix.Benchmark#restrictToMethods(String...)} .
+     */
+    @Test
+    public void testRestrictToMethods() {
+        benchmark.add(NormalCompleteBench.class);
+        benchmark.restrictToMethods("bench1");
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+        assertEquals("Bench1 is invoked", NormalCompleteBench.RUNS, NormalCompleteBench.getBenchCounter1());
+        assertEquals("Bench is skipped", 0, NormalCompleteBench.getBenchCounter2());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testForkedBenchrun() throws PerfidixMethodCheckException {
+        benchmark = new Benchmark(new ForkConfig());
+        benchmark.add(NormalCompleteBench.class);
+        final Map<BenchmarkMethod, Integer> mapping = benchmark.getNumberOfMethodsAndRuns();
+        assertTrue("The mapping contains the runs of all forks", mapping.values().contains(NormalCompleteBench.RUNS * ForkConfig.TESTFORKS));
+
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+        assertEquals("Benches are not invoked in this JVM", 0, NormalCompleteBench.getBenchCounter1());
+
+        final ClassResult classRes = benchRes.getResultForObject(NormalCompleteBench.class);
+        assertEquals("Both methods are stored", 2, classRes.getIncludedResults().size());
+        assertEquals("The runs of all forks are aggregated", (NormalCompleteBench.RUNS + new ForkConfig().getRuns()) * ForkConfig.TESTFORKS, classRes.getNumberOfResult(ForkConfig.TESTMETER));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs restricted to one method, forking either
+     * each method or each class.
+     */
+    @Test
+    public void testForkedBenchrunRestricted() {
+        for (final ForkConfig conf : new ForkConfig[]{new ForkConfig(), new ClassForkConfig()}) {
+            benchmark = new Benchmark(conf);
+            benchmark.add(NormalCompleteBench.class);
+            benchmark.add(SleepingBench.class);
+            benchmark.restrictToMethods("bench1");
+            final BenchmarkResult benchRes = benchmark.run();
+            assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+            assertEquals("Classes without the method are not forked", 1, benchRes.getIncludedResults().size());
+
+            final ClassResult classRes = benchRes.getResultForObject(NormalCompleteBench.class);
+            assertEquals("Only the restricted method is stored", 1, classRes.getIncludedResults().size());
+            assertEquals("The runs of all forks are aggregated", NormalCompleteBench.RUNS * ForkConfig.TESTFORKS, classRes.getNumberOfResult(ForkConfig.TESTMETER));
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs and two meters of different magnitudes,
+     * whose order differs between the JVMs.
+     */
+    @Test
+    public void testForkedBenchrunWithTwoMeters() {
+        benchmark = new Benchmark(new TwoMeterForkConfig());
+        benchmark.add(SleepingBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+
+        final ClassResult classRes = benchRes.getResultForObject(SleepingBench.class);
+        final double millis = classRes.mean(ForkConfig.TESTMETER);
+        final double nanos = classRes.mean(TwoMeterForkConfig.NANOMETER);
+        assertTrue("Milli seconds should be stored to their meter, not " + millis, millis > 0.5 && millis < 1000);
+        assertTrue("Nano seconds should be stored to their meter, not " + nanos, nanos > SleepingBench.SLEEP / 2);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs and an already instantiated object which is
+     * benched in the current JVM.
+     */
+    @Test
+    public void testForkedBenchrunWithObject() {
+        benchmark = new Benchmark(new ForkConfig());
+        benchmark.add(NormalCompleteBench.class);
+        benchmark.add(new CountingBench());
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+        assertEquals("The object not being forked is warned about", 1, benchRes.getWarnings().size());
+        assertEquals("Benches of the object are invoked in this JVM", new ForkConfig().getRuns(), CountingBench.getBenchCounter());
+        assertEquals("Benches of the class are not invoked in this JVM", 0, NormalCompleteBench.getBenchCounter1());
+        assertEquals("Results of both classes are stored", 2, benchRes.getIncludedResults().size());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs whose output is forwarded to the stream of
+     * the config.
+     */
+    @Test
+    public void testForkedOutput() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final PrintStream output = new PrintStream(bytes);
+        benchmark = new Benchmark(new ForkConfig() {
+            @Override
+            public String[] getJvmArgs() {
+                return new String[]{"-XX:+NoSuchOption"};
+            }
+
+            @Override
+            public PrintStream getForkOutput() {
+                return output;
+            }
+        });
+        benchmark.add(NormalCompleteBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertTrue("The failed forks are reported", benchRes.getExceptions().size() > 0);
+        output.flush();
+        assertTrue("The output of the forks is forwarded", bytes.toString().contains("NoSuchOption"));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with forked JVMs sending quantile sketches.
+     */
+    @Test
+    public void testForkedSketchBenchrun() {
+        benchmark = new Benchmark(new SketchForkConfig());
+        benchmark.add(NormalCompleteBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+
+        final ClassResult classRes = benchRes.getResultForObject(NormalCompleteBench.class);
+        assertEquals("The sketches of all forks are aggregated", (NormalCompleteBench.RUNS + new ForkConfig().getRuns()) * ForkConfig.TESTFORKS, classRes.getNumberOfResult(ForkConfig.TESTMETER));
+        assertTrue("Single values are not sent", classRes.getResultSet(ForkConfig.TESTMETER).isEmpty());
+        assertTrue("Percentiles are estimated from the sketches", classRes.getConf95(ForkConfig.TESTMETER) >= classRes.min(ForkConfig.TESTMETER));
+        assertEquals("Histograms of all forks are aggregated", classRes.getNumberOfResult(ForkConfig.TESTMETER), classRes.getHistogram(ForkConfig.TESTMETER).getCount());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with classes executed in parallel.
+     */
+    @Test
+    public void testParallelBenchrun() {
+        benchmark = new Benchmark(new ParallelConfig());
+        benchmark.add(NormalCompleteBench.class);
+        benchmark.add(CountingBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+        assertEquals("The interference is warned about", 1, benchRes.getWarnings().size());
+        assertEquals("The shards of both classes are merged", 2, benchRes.getIncludedResults().size());
+
+        assertEquals("Before-Class is invoked once", 1, NormalCompleteBench.getBeforeClassCounter());
+        assertEquals("Bench is invoked as much as bench1", NormalCompleteBench.RUNS, NormalCompleteBench.getBenchCounter1());
+        assertEquals("Bench is invoked as much as bench2", ParallelConfig.TESTRUNS, NormalCompleteBench.getBenchCounter2());
+        assertEquals("After-Class is invoked once", 1, NormalCompleteBench.getAfterClassCounter());
+        assertEquals("Bench of the other class is invoked", ParallelConfig.TESTRUNS, CountingBench.getBenchCounter());
+        assertEquals("All runs are merged", NormalCompleteBench.RUNS + 2 * ParallelConfig.TESTRUNS, benchRes.getNumberOfResult(ParallelConfig.TESTMETER));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.Benchmark#run()} with classes to be executed in parallel and a meter which is
+     * not thread-safe.
+     */
+    @Test
+    public void testParallelBenchrunNotThreadSafe() {
+        final CountingMeter meter = new CountingMeter();
+        benchmark = new Benchmark(new ParallelConfig(meter));
+        benchmark.add(NormalCompleteBench.class);
+        benchmark.add(CountingBench.class);
+        final BenchmarkResult benchRes = benchmark.run();
+        assertEquals("No exception is thrown", 0, benchRes.getExceptions().size());
+        assertEquals("The sequential execution is warned about", 1, benchRes.getWarnings().size());
+        assertTrue("The meter is named within the warning", benchRes.getWarnings().get(0).contains(meter.toString()));
+        assertEquals("Both classes are executed", 2, benchRes.getIncludedResults().size());
+        assertEquals("All runs are stored", NormalCompleteBench.RUNS + 2 * ParallelConfig.TESTRUNS, benchRes.getNumberOfResult(meter));
+    }
+
 }
@@ -19,6 +19,7 @@
 package org.perfidix.element;
 
 
+import org.apache.commons.math.stat.descriptive.SummaryStatistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.perfidix.AbstractConfig;
@@ -26,17 +27,25 @@ import org.perfidix.annotation.*;
 import org.perfidix.exceptions.PerfidixMethodCheckException;
 import org.perfidix.exceptions.PerfidixMethodInvocationException;
 import org.perfidix.meter.AbstractMeter;
+import org.perfidix.meter.AllocationMeter;
 import org.perfidix.meter.CountingMeter;
+import org.perfidix.meter.Memory;
 import org.perfidix.meter.Time;
 import org.perfidix.meter.TimeMeter;
 import org.perfidix.result.BenchmarkResult;
 import org.perfidix.result.ClassResult;
+import org.perfidix.result.ConcurrencyResult;
 import org.perfidix.result.MethodResult;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -189,6 +198,364 @@ public class BenchmarkExecutorTest {
 
     }
 
+    /**
+     * Test method for the warmup within {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteWarmup() throws PerfidixMethodCheckException {
+        try {
+            final Method meth = WarmupClass.class.getMethod(METHODNAME);
+            final Object objToExecute = WarmupClass.class.newInstance();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+
+            exec.executeBeforeMethods(objToExecute);
+            exec.executeBeforeMethods(objToExecute);
+
+            assertEquals("Bench should be invoked for each warmup run", WarmupClass.WARMUPRUNS, each);
+            assertEquals("BeforeEach should be invoked for each warmup run and each call", WarmupClass.WARMUPRUNS + 2, once);
+            assertTrue("Warmup runs should not be recorded", res.getRegisteredMeters().isEmpty());
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for the steady-state detection within the warmup of
+     * {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteWarmupSteadyState() throws PerfidixMethodCheckException {
+        try {
+            BenchmarkExecutor.initialize(new WarmupConfig(meter), res);
+            final Method meth = NormalClass.class.getMethod(METHODNAME);
+            final Object objToExecute = NormalClass.class.newInstance();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+
+            exec.executeBeforeMethods(objToExecute);
+
+            assertEquals("Warmup should stop after the window is filled", WarmupConfig.WINDOW, each);
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#executeBench(Object, Object[])} with multiple
+     * operations per run.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteBenchWithOperations() throws PerfidixMethodCheckException {
+        try {
+            final Method meth = OperationsClass.class.getMethod(METHODNAME);
+            final Object objToExecute = OperationsClass.class.newInstance();
+            final BenchmarkMethod elem = new BenchmarkMethod(meth);
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(elem));
+            exec.executeBench(objToExecute);
+
+            assertEquals("Bench should be invoked for each operation", OperationsClass.OPERATIONS, each);
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            for (final AbstractMeter eachMeter : meter) {
+                assertEquals("One result per run should be stored", 1, methRes.getNumberOfResult(eachMeter));
+            }
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#executeBench(Object, Object[])} with the
+     * allocations per operation.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteBenchWithAllocations() throws PerfidixMethodCheckException {
+        try {
+            final AbstractMeter allocationMeter = new AllocationMeter(Memory.Byte);
+            meter = new HashSet<>();
+            meter.add(allocationMeter);
+            BenchmarkExecutor.initialize(new CheckConfig(meter), res);
+            final Method meth = AllocationClass.class.getMethod(METHODNAME);
+            final Object objToExecute = AllocationClass.class.newInstance();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+            exec.executeBench(objToExecute);
+
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            final double allocated = methRes.getResultSet(allocationMeter).iterator().next();
+            assertTrue("Allocations of one operation should be stored", allocated >= AllocationClass.SIZE);
+            assertTrue("Allocations should be divided by the operations", allocated < 2 * AllocationClass.SIZE);
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#executeBench(Object, Object[])} with runs hit by
+     * a garbage collection.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteBenchWithGc() throws PerfidixMethodCheckException {
+        try {
+            final Method meth = GcClass.class.getMethod(METHODNAME);
+            final GcClass objToExecute = new GcClass();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+            objToExecute.collect = false;
+            exec.executeBench(objToExecute);
+            objToExecute.collect = true;
+            exec.executeBench(objToExecute);
+
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            assertEquals("Each run should be stored", 2, methRes.getNumberOfRuns());
+            assertTrue("Run with a garbage collection should be flagged", methRes.isHitByGc(1));
+        } catch (final SecurityException | NoSuchMethodException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for the calibration of the operations within
+     * {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testCalibrateOperations() throws PerfidixMethodCheckException {
+        try {
+            BenchmarkExecutor.initialize(new BatchConfig(meter), res);
+            final Method meth = NormalClass.class.getMethod(METHODNAME);
+            final Object objToExecute = NormalClass.class.newInstance();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+
+            exec.executeBeforeMethods(objToExecute);
+            assertEquals("Calibration should end with the first operation", 1, each);
+            exec.executeBench(objToExecute);
+            assertEquals("Calibrated operations should be invoked", 2, each);
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#executeBench(Object, Object[])} with concurrent
+     * execution.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testExecuteConcurrentBench() throws PerfidixMethodCheckException {
+        try {
+            final Method meth = ThreadsClass.class.getMethod(METHODNAME);
+            final ThreadsClass objToExecute = new ThreadsClass();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+            exec.executeBench(objToExecute);
+
+            assertEquals("Bench should be invoked once per thread", 4, objToExecute.counter.get());
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            assertEquals("Results for each number of threads should be stored", 2, methRes.getIncludedResults().size());
+            final ConcurrencyResult concurrencyRes = methRes.getResultForObject(3);
+            assertEquals("Results for each thread should be stored", 3, concurrencyRes.getIncludedResults().size());
+            assertEquals("Operations of all threads should be stored", 3, concurrencyRes.getOperations());
+            assertTrue("Throughput should be computed", concurrencyRes.getThroughput() > 0);
+            for (final AbstractMeter eachMeter : meter) {
+                assertEquals("Data of all threads should be aggregated", 4, methRes.getNumberOfResult(eachMeter));
+                assertEquals("Data of the threads should be aggregated", 3, concurrencyRes.getNumberOfResult(eachMeter));
+                assertEquals("Data of one thread should be stored", 1, concurrencyRes.getResultForObject(0).getNumberOfResult(eachMeter));
+            }
+        } catch (final SecurityException | NoSuchMethodException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#executeBench(Object, Object[])} with concurrent
+     * execution over multiple runs, reusing the worker threads until the benchmark is finished.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testReuseConcurrentWorkers() throws PerfidixMethodCheckException {
+        try {
+            final Method meth = ThreadsClass.class.getMethod(METHODNAME);
+            final ThreadsClass objToExecute = new ThreadsClass();
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+            exec.executeBench(objToExecute);
+            exec.executeBench(objToExecute);
+            exec.executeBench(objToExecute);
+
+            assertEquals("Bench should be invoked once per thread and run", 12, objToExecute.counter.get());
+            assertEquals("Workers should be reused for all runs", 4, objToExecute.threads.size());
+
+            BenchmarkExecutor.finish();
+            for (final Thread worker : objToExecute.threads) {
+                assertFalse("Workers should be shut down", worker.isAlive());
+            }
+        } catch (final SecurityException | NoSuchMethodException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for skipping runs after the maximum runs within
+     * {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testMaxRuns() throws PerfidixMethodCheckException {
+        assertEquals("Runs should be limited by the maximum runs", 3, executeTimeBoxed(NormalClass.class, new TimeBoxConfig(meter, 10, 0, 3)));
+    }
+
+    /**
+     * Test method for the additional runs within {@link org.perfidix.element.BenchmarkExecutor#executeAfterMethods(Object)}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testMinRuns() throws PerfidixMethodCheckException {
+        assertEquals("Runs should be extended to the minimum runs", 5, executeTimeBoxed(NormalClass.class, new TimeBoxConfig(meter, 2, 5, 0)));
+    }
+
+    /**
+     * Test method for skipping runs after the maximum time within
+     * {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testMaxTime() throws PerfidixMethodCheckException {
+        assertEquals("Runs should be skipped after the maximum time", 1, executeTimeBoxed(TimeBoxClass.class, new TimeBoxConfig(meter, 10, 0, 0)));
+    }
+
+    /**
+     * Test method for skipping runs after the maximum time given in an annotated unit within
+     * {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testMaxTimeUnit() throws PerfidixMethodCheckException {
+        assertEquals("Runs should be skipped after the maximum time", 1, executeTimeBoxed(TimeUnitBoxClass.class, new TimeBoxConfig(meter, 10, 0, 0)));
+    }
+
+    /**
+     * Test method for adaptive sampling within {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testAdaptiveSampling() throws PerfidixMethodCheckException {
+        meter = new HashSet<AbstractMeter>();
+        meter.add(new CountingMeter());
+        assertEquals("Runs of a stable meter should be skipped after two runs", 2, executeTimeBoxed(NormalClass.class, new AdaptiveConfig(meter, 10)));
+    }
+
+    /**
+     * Test method for adaptive sampling within {@link org.perfidix.element.BenchmarkExecutor#executeBeforeMethods(Object, Object[])}
+     * checking the confidence interval of the {@link TimeMeter} instead of a stable meter.
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testAdaptiveSamplingOnTime() throws PerfidixMethodCheckException {
+        meter = new LinkedHashSet<AbstractMeter>();
+        meter.add(new CountingMeter());
+        meter.add(new TimeMeter(Time.NanoSeconds));
+        assertTrue("Runs should be sampled until the time is stable", executeTimeBoxed(NormalClass.class, new AdaptiveConfig(meter, 10)) > 2);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#getQuantile(long, double)}
+     */
+    @Test
+    public void testQuantile() {
+        assertEquals("Quantile should be based on the t-distribution", 4.303, BenchmarkExecutor.getQuantile(2, 0.95), 0.001);
+        assertEquals("Quantile should be cached", BenchmarkExecutor.getQuantile(2, 0.95), BenchmarkExecutor.getQuantile(2, 0.95), 0.0);
+        assertEquals("Quantile should be based on the normal distribution for large samples", 1.960, BenchmarkExecutor.getQuantile(BenchmarkExecutor.NORMAL_DEGREES, 0.95), 0.001);
+        assertEquals("Quantile of the t-distribution should be close to the normal distribution", 1.962, BenchmarkExecutor.getQuantile(BenchmarkExecutor.NORMAL_DEGREES - 1, 0.95), 0.001);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#getConfidenceHalfWidth(SummaryStatistics, double)}
+     */
+    @Test
+    public void testConfidenceHalfWidth() {
+        final SummaryStatistics stats = new SummaryStatistics();
+        stats.addValue(1);
+        stats.addValue(2);
+        stats.addValue(3);
+        assertEquals("Half width should be based on the t-distribution", 4.303 / Math.sqrt(3), BenchmarkExecutor.getConfidenceHalfWidth(stats, 0.95), 0.001);
+    }
+
+    /**
+     * Executing all runs of a class like {@link org.perfidix.Benchmark#run()} does.
+     *
+     * @param clazz  to be benched
+     * @param config with the runs
+     * @return the number of bench invocations
+     */
+    private int executeTimeBoxed(final Class<?> clazz, final AbstractConfig config) throws PerfidixMethodCheckException {
+        try {
+            BenchmarkExecutor.initialize(config, res);
+            final Method meth = clazz.getMethod(METHODNAME);
+            final Object objToExecute = clazz.newInstance();
+            final BenchmarkElement elem = new BenchmarkElement(new BenchmarkMethod(meth));
+            for (int i = 0; i < config.getRuns(); i++) {
+                final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(elem);
+                exec.executeBeforeMethods(objToExecute);
+                exec.executeBench(objToExecute);
+                exec.executeAfterMethods(objToExecute);
+            }
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            for (final AbstractMeter eachMeter : meter) {
+                assertEquals("One result per invocation should be stored", each, methRes.getNumberOfResult(eachMeter));
+            }
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+        return each;
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#calibrateOverhead(int)}
+     *
+     * @throws PerfidixMethodCheckException
+     */
+    @Test
+    public void testCalibrateOverhead() throws PerfidixMethodCheckException {
+        try {
+            final AbstractMeter ticking = new TickingMeter();
+            meter = new HashSet<AbstractMeter>();
+            meter.add(ticking);
+            BenchmarkExecutor.initialize(new OverheadConfig(meter), res);
+            assertEquals("Overhead of the meter should be calibrated and reported", 1, res.getOverheads().get(ticking), 0);
+
+            final Method meth = NormalClass.class.getMethod(METHODNAME);
+            final BenchmarkExecutor exec = BenchmarkExecutor.getExecutor(new BenchmarkElement(new BenchmarkMethod(meth)));
+            exec.executeBench(NormalClass.class.newInstance());
+            final MethodResult methRes = res.getIncludedResults().iterator().next().getIncludedResults().iterator().next();
+            assertEquals("Overhead should be subtracted", 0, methRes.sum(ticking), 0);
+        } catch (final SecurityException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkExecutor#getCoefficientOfVariation(double[])}
+     */
+    @Test
+    public void testCoefficientOfVariation() {
+        assertEquals("Constant values should not vary", 0d, BenchmarkExecutor.getCoefficientOfVariation(new double[]{5, 5, 5}), 0);
+        assertEquals("Coefficient of variation should be stddev / mean", 0.5, BenchmarkExecutor.getCoefficientOfVariation(new double[]{1, 2, 3}), 0.000001);
+    }
+
     /**
      * Test method for {@link org.perfidix.element.BenchmarkExecutor#checkMethod(Object, Class, java.lang.reflect.Method...)} and
      * {@link org.perfidix.element.BenchmarkExecutor#invokeMethod(Object, Class, java.lang.reflect.Method, Object[])}
@@ -287,6 +654,79 @@ class BeforeClass {
 }
 
 
+class WarmupClass {
+
+    static final int WARMUPRUNS = 5;
+
+    @Bench(warmupRuns = WARMUPRUNS)
+    public void bench() {
+        BenchmarkExecutorTest.each++;
+    }
+
+    @BeforeEachRun
+    public void beforeEach() {
+        BenchmarkExecutorTest.once++;
+    }
+
+}
+
+
+class OperationsClass {
+
+    static final int OPERATIONS = 7;
+
+    @Bench(operations = OPERATIONS)
+    public void bench() {
+        BenchmarkExecutorTest.each++;
+    }
+
+}
+
+
+class AllocationClass {
+
+    static final int SIZE = 1024;
+
+    byte[] allocated;
+
+    @Bench(operations = OperationsClass.OPERATIONS)
+    public void bench() {
+        allocated = new byte[SIZE];
+    }
+
+}
+
+
+class GcClass {
+
+    boolean collect;
+
+    @Bench
+    public void bench() {
+        if (collect) {
+            System.gc();
+        }
+    }
+
+}
+
+
+class ThreadsClass {
+
+    final AtomicInteger counter = new AtomicInteger();
+
+    final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+
+    @Bench
+    @Threads({1, 3})
+    public void bench() {
+        counter.incrementAndGet();
+        threads.add(Thread.currentThread());
+    }
+
+}
+
+
 class CheckConfig extends AbstractConfig {
 
     CheckConfig(Set<AbstractMeter> meter) {
@@ -294,3 +734,166 @@ class CheckConfig extends AbstractConfig {
     }
 
 }
+
+
+class WarmupConfig extends AbstractConfig {
+
+    static final int WINDOW = 3;
+
+    WarmupConfig(Set<AbstractMeter> meter) {
+        super(1, meter, AbstractConfig.LISTENERS, AbstractConfig.ARRAN, AbstractConfig.GARBAGE_PROB);
+    }
+
+    @Override
+    public int getWarmupRuns() {
+        return 100;
+    }
+
+    @Override
+    public double getWarmupThreshold() {
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    public int getWarmupWindow() {
+        return WINDOW;
+    }
+
+}
+
+
+class BatchConfig extends AbstractConfig {
+
+    BatchConfig(Set<AbstractMeter> meter) {
+        super(1, meter, AbstractConfig.LISTENERS, AbstractConfig.ARRAN, AbstractConfig.GARBAGE_PROB);
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+        return TimeUnit.NANOSECONDS;
+    }
+
+    @Override
+    public long getBatchTime() {
+        return 1;
+    }
+
+}
+
+
+class TimeBoxClass {
+
+    @Bench(maxTime = 1)
+    public void bench() throws InterruptedException {
+        Thread.sleep(2);
+        BenchmarkExecutorTest.each++;
+    }
+
+}
+
+
+class TimeUnitBoxClass {
+
+    @Bench(maxTime = 1000, timeUnit = TimeUnit.MICROSECONDS)
+    public void bench() throws InterruptedException {
+        Thread.sleep(2);
+        BenchmarkExecutorTest.each++;
+    }
+
+}
+
+
+class TimeBoxConfig extends AbstractConfig {
+
+    private final int minRuns;
+
+    private final int maxRuns;
+
+    TimeBoxConfig(Set<AbstractMeter> meter, int runs, int paramMinRuns, int paramMaxRuns) {
+        super(runs, meter, AbstractConfig.LISTENERS, AbstractConfig.ARRAN, AbstractConfig.GARBAGE_PROB);
+        minRuns = paramMinRuns;
+        maxRuns = paramMaxRuns;
+    }
+
+    @Override
+    public int getMinRuns() {
+        return minRuns;
+    }
+
+    @Override
+    public int getMaxRuns() {
+        return maxRuns;
+    }
+
+}
+
+
+class AdaptiveConfig extends AbstractConfig {
+
+    AdaptiveConfig(Set<AbstractMeter> meter, int runs) {
+        super(runs, meter, AbstractConfig.LISTENERS, AbstractConfig.ARRAN, AbstractConfig.GARBAGE_PROB);
+    }
+
+    @Override
+    public double getConfidenceWidth() {
+        return 0.01;
+    }
+
+}
+
+
+class OverheadConfig extends AbstractConfig {
+
+    OverheadConfig(Set<AbstractMeter> meter) {
+        super(1, meter, AbstractConfig.LISTENERS, AbstractConfig.ARRAN, AbstractConfig.GARBAGE_PROB);
+    }
+
+    @Override
+    public int getOverheadRuns() {
+        return 10;
+    }
+
+    @Override
+    public boolean isOverheadSubtracted() {
+        return true;
+    }
+
+}
+
+
+class TickingMeter extends AbstractMeter {
+
+    private double ticks;
+
+    @Override
+    public double getValue() {
+        ticks++;
+        return ticks;
+    }
+
+    @Override
+    public String getUnit() {
+        return "ticks";
+    }
+
+    @Override
+    public String getUnitDescription() {
+        return "ticks per read";
+    }
+
+    @Override
+    public String getName() {
+        return "TickingMeter";
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.element;
+
+
+import org.junit.Before;
+import org.junit.Test;
+import org.perfidix.annotation.Bench;
+import org.perfidix.exceptions.PerfidixMethodInvocationException;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Test case for the BenchmarkInvoker.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public class BenchmarkInvokerTest {
+
+    /**
+     * static int to check the invocations
+     */
+    public static int counter;
+
+    private transient InvokerClass obj;
+
+    /**
+     * Simple setUp.
+     */
+    @Before
+    public void setUp() {
+        counter = 0;
+        obj = new InvokerClass();
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkInvoker#invoke(Class, Object...)} without parameters.
+     *
+     * @throws NoSuchMethodException
+     */
+    @Test
+    public void testInvoke() throws NoSuchMethodException {
+        final BenchmarkInvoker invoker = new BenchmarkInvoker(obj, InvokerClass.class.getMethod("bench"));
+        assertNull("Invocation should succeed", invoker.invoke(Bench.class));
+        assertNull("Invocation should succeed", invoker.invoke(Bench.class));
+        assertEquals("Method should be invoked twice", 2, counter);
+        assertTrue("Invoker should be bound to the object", invoker.isBoundTo(obj));
+        assertFalse("Invoker should not be bound to another object", invoker.isBoundTo(new InvokerClass()));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkInvoker#invoke(Class, Object...)} with parameters.
+     *
+     * @throws NoSuchMethodException
+     */
+    @Test
+    public void testInvokeWithParameters() throws NoSuchMethodException {
+        final BenchmarkInvoker invoker = new BenchmarkInvoker(obj, InvokerClass.class.getMethod("benchParam", Integer.class, Integer.class));
+        assertNull("Invocation should succeed", invoker.invoke(Bench.class, 3, 4));
+        assertEquals("Parameters should be passed", 7, counter);
+        assertNotNull("Invocation with wrong parameters should fail", invoker.invoke(Bench.class, 3));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.element.BenchmarkInvoker#invoke(Class, Object...)} with an exception.
+     *
+     * @throws NoSuchMethodException
+     */
+    @Test
+    public void testInvokeWithException() throws NoSuchMethodException {
+        final BenchmarkInvoker invoker = new BenchmarkInvoker(obj, InvokerClass.class.getMethod("benchException"));
+        final PerfidixMethodInvocationException exc = invoker.invoke(Bench.class);
+        assertNotNull("Invocation should fail", exc);
+        assertEquals("Exception of the method should be encapsulated", IllegalStateException.class, exc.getExec().getClass());
+        assertEquals("Annotation should be related", Bench.class, exc.getRelatedAnno());
+    }
+
+}
+
+
+class InvokerClass {
+
+    public void bench() {
+        BenchmarkInvokerTest.counter++;
+    }
+
+    public void benchParam(final Integer first, final Integer second) {
+        BenchmarkInvokerTest.counter = first + second;
+    }
+
+    public void benchException() {
+        throw new IllegalStateException();
+    }
+
+}
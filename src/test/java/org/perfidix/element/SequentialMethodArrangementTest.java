@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 
@@ -93,6 +94,32 @@ public class SequentialMethodArrangementTest {
         }
     }
 
+    /**
+     * Test method for {@link org.perfidix.element.AbstractMethodArrangement#getMethodArrangementOfRuns(List, KindOfArrangement)} .
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testLazyRuns() throws Exception {
+        final List<BenchmarkRuns> runs = new ArrayList<BenchmarkRuns>();
+        runs.add(new BenchmarkRuns(new BenchmarkMethod(TestBenchClass.class.getMethod(BENCH1NAME)), 1));
+        runs.add(new BenchmarkRuns(new BenchmarkMethod(TestBenchClass.class.getMethod(BENCH2NAME)), 1000000));
+        runs.add(new BenchmarkRuns(new BenchmarkMethod(TestBenchClass.class.getMethod(BENCH4NAME)), 2));
+
+        final AbstractMethodArrangement arrangement = AbstractMethodArrangement.getMethodArrangementOfRuns(runs, KindOfArrangement.SequentialMethodArrangement);
+        final String[] expectedNames = {BENCH2NAME, BENCH4NAME, BENCH1NAME, BENCH2NAME, BENCH4NAME, BENCH2NAME, BENCH2NAME};
+        final Iterator<BenchmarkElement> iterBench = arrangement.iterator();
+        for (final String expectedName : expectedNames) {
+            assertEquals("Elements should be arranged sequentially", expectedName, iterBench.next().getMeth().getMethodToBench().getName());
+        }
+        int left = 0;
+        while (iterBench.hasNext()) {
+            iterBench.next();
+            left++;
+        }
+        assertEquals("All runs should be iterated", 1000000 - 4, left);
+    }
+
     private class TestBenchClass {
 
         @Bench
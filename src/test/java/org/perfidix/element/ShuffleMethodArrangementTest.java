@@ -26,10 +26,15 @@ import org.perfidix.exceptions.PerfidixMethodCheckException;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 
@@ -82,6 +87,54 @@ public class ShuffleMethodArrangementTest {
         }
     }
 
+    /**
+     * Test method for {@link org.perfidix.element.ShuffleMethodArrangement} with the parameter sets of a dataprovider.
+     * The order has to be shuffled across the methods as well as within the runs of one method.
+     */
+    @Test
+    public void testParameterSets() {
+        final int numberOfSets = 10;
+        final List<BenchmarkRuns> runs = new ArrayList<BenchmarkRuns>();
+        for (final BenchmarkElement elem : elemSet) {
+            final Object[][] sets = new Object[numberOfSets][];
+            for (int i = 0; i < numberOfSets; i++) {
+                sets[i] = new Object[]{i};
+            }
+            runs.add(new BenchmarkRuns(elem.getMeth(), sets));
+        }
+
+        final AbstractMethodArrangement arrangement = AbstractMethodArrangement.getMethodArrangementOfRuns(runs, KindOfArrangement.ShuffleArrangement);
+        final Map<BenchmarkMethod, List<Integer>> drawn = new HashMap<BenchmarkMethod, List<Integer>>();
+        final List<BenchmarkMethod> methodOrder = new ArrayList<BenchmarkMethod>();
+        for (final BenchmarkElement elem : arrangement) {
+            if (!drawn.containsKey(elem.getMeth())) {
+                drawn.put(elem.getMeth(), new ArrayList<Integer>());
+            }
+            drawn.get(elem.getMeth()).add((Integer) elem.getParameter()[0]);
+            methodOrder.add(elem.getMeth());
+        }
+
+        assertEquals("All elements have to be arranged", runs.size() * numberOfSets, methodOrder.size());
+        boolean methodsInterleaved = false;
+        for (int i = numberOfSets; i < methodOrder.size(); i++) {
+            if (!methodOrder.get(i).equals(methodOrder.get((i / numberOfSets) * numberOfSets))) {
+                methodsInterleaved = true;
+            }
+        }
+        assertTrue("Methods have to be arranged in a different way!", methodsInterleaved);
+
+        for (final BenchmarkRuns each : runs) {
+            final List<Integer> params = drawn.get(each.getMeth());
+            final List<Integer> inputOrder = new ArrayList<Integer>();
+            for (int i = 0; i < numberOfSets; i++) {
+                inputOrder.add(i);
+            }
+            assertFalse("Parameter sets have to be arranged in a different way!", inputOrder.equals(params));
+            Collections.sort(params);
+            assertEquals("Each parameter set has to be arranged once", inputOrder, params);
+        }
+    }
+
     private class TestBenchClass {
 
         @Bench
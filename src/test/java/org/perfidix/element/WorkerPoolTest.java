@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.element;
+
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Test case for {@link WorkerPool}.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public class WorkerPoolTest {
+
+    /**
+     * Number of workers.
+     */
+    private static final int THREADS = 3;
+
+    /**
+     * Task doing nothing.
+     */
+    private static final WorkerPool.Task NOTHING = new WorkerPool.Task() {
+        @Override
+        public void run(final int index) {
+        }
+    };
+
+    /**
+     * Test method for {@link WorkerPool#execute(WorkerPool.Task)} with a failing task, the pool has to stay usable.
+     *
+     * @throws Exception
+     */
+    @Test(timeout = 10000)
+    public void testFailingTask() throws Exception {
+        final WorkerPool pool = new WorkerPool("test", THREADS, NOTHING);
+        final IllegalStateException failure = new IllegalStateException();
+        try {
+            pool.execute(new WorkerPool.Task() {
+                @Override
+                public void run(final int index) {
+                    if (index == 1) {
+                        throw failure;
+                    }
+                }
+            });
+            fail("Failure of the worker should be thrown");
+        } catch (final ExecutionException e) {
+            assertSame("Failure of the worker should be the cause", failure, e.getCause());
+        }
+
+        final AtomicInteger executed = new AtomicInteger();
+        pool.execute(new WorkerPool.Task() {
+            @Override
+            public void run(final int index) {
+                executed.incrementAndGet();
+            }
+        });
+        assertEquals("All workers should execute the next run", THREADS, executed.get());
+        pool.shutdown();
+    }
+
+    /**
+     * Test method for {@link WorkerPool#WorkerPool(String, int, WorkerPool.Task)} with a failing initialization.
+     *
+     * @throws Exception
+     */
+    @Test(timeout = 10000)
+    public void testFailingInit() throws Exception {
+        final IllegalStateException failure = new IllegalStateException();
+        try {
+            new WorkerPool("test", THREADS, new WorkerPool.Task() {
+                @Override
+                public void run(final int index) {
+                    if (index == 0) {
+                        throw failure;
+                    }
+                }
+            });
+            fail("Failure of the initialization should be thrown");
+        } catch (final ExecutionException e) {
+            assertSame("Failure of the initialization should be the cause", failure, e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.fork;
+
+
+import org.junit.Before;
+import org.junit.Test;
+import org.perfidix.AbstractConfig;
+import org.perfidix.annotation.Bench;
+import org.perfidix.element.KindOfArrangement;
+import org.perfidix.meter.AbstractMeter;
+import org.perfidix.meter.FileMeter;
+import org.perfidix.meter.Memory;
+import org.perfidix.ouput.AbstractOutput;
+import org.perfidix.result.BenchmarkResult;
+import org.perfidix.result.MethodResult;
+
+import java.io.File;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Test case for the records of forked JVMs received by the {@link ForkedBenchmark}.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public class ForkedBenchmarkTest {
+
+    private transient AbstractMeter[] meters;
+
+    private transient String[] keys;
+
+    private transient ForkedBenchmark forked;
+
+    private transient BenchmarkResult res;
+
+    /**
+     * Simple setUp with two meters of the same name.
+     */
+    @Before
+    public void setUp() {
+        final Set<AbstractMeter> meterSet = new LinkedHashSet<AbstractMeter>();
+        meterSet.add(new FileMeter(new File("first"), Memory.Byte));
+        meterSet.add(new FileMeter(new File("second"), Memory.Byte));
+        final AbstractConfig conf = new AbstractConfig(1, meterSet, Collections.<AbstractOutput>emptySet(), KindOfArrangement.NoArrangement, 0d) {
+        };
+        meters = conf.getMeters();
+        keys = ForkedRunner.getKeys(meters);
+        forked = new ForkedBenchmark(conf, Collections.<Class<?>>singleton(ForkedClass.class));
+        res = new BenchmarkResult();
+    }
+
+    /**
+     * Test method for {@link ForkedBenchmark#receive(BenchmarkResult, Class, String...)} with meters of the same name.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testReceiveByKey() throws Exception {
+        assertEquals("Meters should have the same name", meters[0].toString(), meters[1].toString());
+        forked.receive(res, ForkedClass.class, ForkedRunner.DATA, "bench", keys[1], "2.0");
+        forked.receive(res, ForkedClass.class, ForkedRunner.DATA, "bench", keys[1], "4.0");
+        forked.receive(res, ForkedClass.class, ForkedRunner.DATA, "bench", keys[0], "8.0");
+
+        assertEquals("Data of the first meter should be stored", 1, res.getNumberOfResult(meters[0]));
+        assertEquals("Data of the second meter should be stored", 2, res.getNumberOfResult(meters[1]));
+        assertEquals("Data of the second meter should not be mixed", 3.0, res.mean(meters[1]), 0.0);
+    }
+
+    /**
+     * Test method for {@link ForkedRunner#getKeys(AbstractMeter[])} with the meters in a different order, as within a
+     * forked JVM.
+     */
+    @Test
+    public void testKeysIndependentOfOrder() {
+        final String[] reversed = ForkedRunner.getKeys(new AbstractMeter[]{meters[1], meters[0]});
+        assertEquals("Keys should not depend on the order", keys[0], reversed[1]);
+        assertEquals("Keys should not depend on the order", keys[1], reversed[0]);
+        assertFalse("Keys should be unique", keys[0].equals(keys[1]));
+    }
+
+    /**
+     * Test method for {@link ForkedBenchmark#storeOverheads(BenchmarkResult)} with the overheads of several forks.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testMedianOverhead() throws Exception {
+        forked.receive(res, ForkedClass.class, ForkedRunner.OVERHEAD, keys[0], "1.0");
+        forked.receive(res, ForkedClass.class, ForkedRunner.OVERHEAD, keys[0], "9.0");
+        forked.receive(res, ForkedClass.class, ForkedRunner.OVERHEAD, keys[0], "3.0");
+        forked.receive(res, ForkedClass.class, ForkedRunner.OVERHEAD, keys[1], "5.0");
+        forked.storeOverheads(res);
+
+        assertEquals("Median of all forks should be stored", 3.0, res.getOverheads().get(meters[0]), 0.0);
+        assertEquals("Overhead of a single fork should be stored", 5.0, res.getOverheads().get(meters[1]), 0.0);
+    }
+
+    /**
+     * Test method for {@link ForkedBenchmark#receive(BenchmarkResult, Class, String...)} with the flags of runs.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testReceiveRuns() throws Exception {
+        final BitSet gcRuns = new BitSet();
+        gcRuns.set(0);
+        gcRuns.set(2);
+        forked.receive(res, ForkedClass.class, ForkedRunner.RUNS, "bench", "3", ForkedRunner.toHex(gcRuns.toByteArray()), "");
+        forked.receive(res, ForkedClass.class, ForkedRunner.RUNS, "bench", "2", ForkedRunner.toHex(gcRuns.toByteArray()));
+
+        final MethodResult methRes = res.getResultForObject(ForkedClass.class).getIncludedResults().iterator().next();
+        assertEquals("Runs of both forks should be counted", 5, methRes.getNumberOfRuns());
+        assertEquals("Runs of both forks should be flagged", 3, methRes.getRunsHitByGc().cardinality());
+        assertTrue("Runs of the second fork should be flagged after the first fork", methRes.isHitByGc(3));
+        assertTrue("Missing flags should not flag any run", methRes.getRunsHitByJit().isEmpty());
+    }
+
+    /**
+     * Class benched within the records.
+     */
+    static class ForkedClass {
+
+        /**
+         * Simple bench.
+         */
+        @Bench
+        public void bench() {
+            // Just a bench-skeleton
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for AllocationMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class AllocationMeterTest {
+
+    /**
+     * Size of the allocated array.
+     */
+    private static final int SIZE = 1 << 20;
+
+    /**
+     * Instance for bytes.
+     */
+    private transient AllocationMeter byteMeter;
+
+    /**
+     * Instance for KiB.
+     */
+    private transient AllocationMeter kibiMeter;
+
+    /**
+     * Allocated array, stored to keep the allocation.
+     */
+    private transient byte[] allocated;
+
+    /**
+     * Simple setUp.
+     */
+    @Before
+    public void setUp() {
+        byteMeter = new AllocationMeter(Memory.Byte);
+        kibiMeter = new AllocationMeter(Memory.KibiByte);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.AllocationMeter#getRawValue()} and
+     * {@link org.perfidix.meter.AllocationMeter#convertRawValue(long)}.
+     */
+    @Test
+    public void testGetRawValue() {
+        assertTrue("AllocationMeter offers raw values", byteMeter.hasRawValue());
+        final long raw1 = byteMeter.getRawValue();
+        allocated = new byte[SIZE];
+        final long raw2 = byteMeter.getRawValue() - raw1;
+        assertTrue("Allocation has to be measured", raw2 >= allocated.length);
+        assertTrue("Allocation has to be measured exactly", raw2 < 2 * SIZE);
+
+        assertEquals("Conversion for bytes", SIZE, byteMeter.convertRawValue(SIZE), 0);
+        assertEquals("Conversion for KiB", 1024, kibiMeter.convertRawValue(SIZE), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.AllocationMeter#getUnit()} and
+     * {@link org.perfidix.meter.AllocationMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetUnit() {
+        assertEquals("Unit for bytes", Memory.Byte.getUnit(), byteMeter.getUnit());
+        assertEquals("Unit for KiB", Memory.KibiByte.getUnit(), kibiMeter.getUnit());
+        assertEquals("Meters with the same scale should be equal", byteMeter, new AllocationMeter(Memory.Byte));
+        assertFalse("Meters with different scales should not be equal", byteMeter.equals(kibiMeter));
+    }
+
+}
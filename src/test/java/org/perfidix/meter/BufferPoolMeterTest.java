@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for BufferPoolMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class BufferPoolMeterTest {
+
+    /**
+     * Size of the allocated buffers.
+     */
+    private static final int SIZE = 1 << 20;
+
+    /**
+     * Test method for {@link org.perfidix.meter.BufferPoolMeter#getRawValue()} with direct buffers.
+     */
+    @Test
+    public void testDirect() {
+        final BufferPoolMeter meter = new BufferPoolMeter(BufferPoolMeter.Pool.Direct, Memory.Byte);
+        assertTrue("BufferPoolMeter offers raw values", meter.hasRawValue());
+        final long raw1 = meter.getRawValue();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE);
+        assertTrue("Direct buffer has to be measured", meter.getRawValue() - raw1 >= buffer.capacity());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.BufferPoolMeter#getRawValue()} with mapped buffers.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testMapped() throws IOException {
+        final BufferPoolMeter meter = new BufferPoolMeter(BufferPoolMeter.Pool.Mapped, Memory.KibiByte);
+        final File file = File.createTempFile("perfidix", ".bin");
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            final long raw1 = meter.getRawValue();
+            final MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+            assertTrue("Mapped buffer has to be measured", meter.getRawValue() - raw1 >= buffer.capacity());
+            assertEquals("Conversion for KiB", 1024, meter.convertRawValue(SIZE), 0);
+        } finally {
+            raf.close();
+            file.delete();
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.BufferPoolMeter#getName()} and
+     * {@link org.perfidix.meter.BufferPoolMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetName() {
+        final BufferPoolMeter meter = new BufferPoolMeter(BufferPoolMeter.Pool.Direct, Memory.Byte);
+        assertEquals("Name should be related to the pool", "DirectBufferMeter", meter.getName());
+        assertEquals("Meters of the same pool should be equal", meter, new BufferPoolMeter(BufferPoolMeter.Pool.Direct, Memory.Byte));
+        assertFalse("Meters of different pools should not be equal", meter.equals(new BufferPoolMeter(BufferPoolMeter.Pool.Mapped, Memory.Byte)));
+    }
+
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for ClassLoadingMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ClassLoadingMeterTest {
+
+    /**
+     * Test method for {@link org.perfidix.meter.ClassLoadingMeter#getRawValue()}.
+     */
+    @Test
+    public void testGetRawValue() {
+        final ClassLoadingMeter loaded = new ClassLoadingMeter(false);
+        assertTrue("ClassLoadingMeter offers raw values", loaded.hasRawValue());
+        final long raw1 = loaded.getRawValue();
+        // a proxy class for a new interface combination is generated and loaded
+        Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Runnable.class, Comparable.class, Appendable.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                return null;
+            }
+        });
+        assertTrue("Loaded classes have to be counted", loaded.getRawValue() - raw1 >= 1);
+        assertTrue("Unloaded classes have to be read", new ClassLoadingMeter(true).getRawValue() >= 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ClassLoadingMeter#getName()} and
+     * {@link org.perfidix.meter.ClassLoadingMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetName() {
+        assertEquals("Name for loaded classes", "ClassLoadingMeter", new ClassLoadingMeter(false).getName());
+        assertEquals("Name for unloaded classes", "ClassUnloadingMeter", new ClassLoadingMeter(true).getName());
+        assertEquals("Meters of loaded classes should be equal", new ClassLoadingMeter(false), new ClassLoadingMeter(false));
+        assertFalse("Meters of loaded and unloaded classes should not be equal", new ClassLoadingMeter(false).equals(new ClassLoadingMeter(true)));
+    }
+
+}
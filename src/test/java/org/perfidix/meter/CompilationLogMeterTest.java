@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+
+/**
+ * Testcase for CompilationLogMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class CompilationLogMeterTest {
+
+    /**
+     * Log to be parsed.
+     */
+    private transient File log;
+
+    /**
+     * Simple setUp.
+     *
+     * @throws IOException
+     */
+    @Before
+    public void setUp() throws IOException {
+        log = File.createTempFile("perfidix", ".log");
+    }
+
+    /**
+     * Simple tearDown.
+     */
+    @After
+    public void tearDown() {
+        log.delete();
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CompilationLogMeter#getRawValue()}.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testGetRawValue() throws IOException {
+        final CompilationLogMeter compilations = new CompilationLogMeter(log, CompilationLogMeter.Event.Compilation);
+        final CompilationLogMeter deopts = new CompilationLogMeter(log, CompilationLogMeter.Event.Deoptimization);
+        assertEquals("Empty log contains no events", 0, compilations.getRawValue());
+
+        append("     41    1       3       java.lang.String::hashCode (55 bytes)\n");
+        append("     42    2 %     4       java.lang.String::equals @ 12 (81 bytes)\n");
+        append("     43    1       3       java.lang.String::hashCode (55 bytes)   made not entrant\n");
+        append("Hello World\n");
+        assertEquals("Compilations should be counted", 2, compilations.getRawValue());
+        assertEquals("Deoptimizations should be counted", 1, deopts.getRawValue());
+
+        append("     44    3       4       java.lang.String::");
+        assertEquals("Incomplete lines should not be counted", 2, compilations.getRawValue());
+        append("length (6 bytes)\n     45    1       3       java.lang.String::hashCode (55 bytes)   made zombie\n");
+        assertEquals("Completed lines should be counted", 3, compilations.getRawValue());
+        assertEquals("Deoptimizations should be counted once", 1, deopts.getRawValue());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CompilationLogMeter#close()} with markers split between two readings.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testClose() throws IOException {
+        final CompilationLogMeter deopts = new CompilationLogMeter(log, CompilationLogMeter.Event.Deoptimization);
+        append("     43    1       3       java.lang.String::hashCode (55 bytes)   made not");
+        assertEquals("Incomplete lines should not be counted", 0, deopts.getRawValue());
+        deopts.close();
+        append(" entrant\n");
+        assertEquals("Lines should be continued after closing", 1, deopts.getRawValue());
+        deopts.close();
+        deopts.close();
+        assertEquals("Closing should not lose events", 1, deopts.getRawValue());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CompilationLogMeter#getRawValue()} with a log not existing.
+     */
+    @Test
+    public void testMissingLog() {
+        final CompilationLogMeter meter = new CompilationLogMeter(new File(log.getParentFile(), log.getName() + ".missing"), CompilationLogMeter.Event.Compilation);
+        assertEquals("Missing log contains no events", 0, meter.getValue(), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CompilationLogMeter#getName()} and
+     * {@link org.perfidix.meter.CompilationLogMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetName() {
+        final CompilationLogMeter compilations = new CompilationLogMeter(log, CompilationLogMeter.Event.Compilation);
+        final CompilationLogMeter deopts = new CompilationLogMeter(log, CompilationLogMeter.Event.Deoptimization);
+        assertEquals("Name for compilations", "CompilationLogMeter", compilations.getName());
+        assertEquals("Name for deoptimizations", "DeoptimizationLogMeter", deopts.getName());
+        assertEquals("Meters of the same log should be equal", compilations, new CompilationLogMeter(log, CompilationLogMeter.Event.Compilation));
+        assertFalse("Meters of different events should not be equal", compilations.equals(deopts));
+    }
+
+    /**
+     * Appending content to the log.
+     *
+     * @param content to be appended
+     * @throws IOException
+     */
+    private void append(final String content) throws IOException {
+        final FileOutputStream out = new FileOutputStream(log, true);
+        try {
+            out.write(content.getBytes(Charset.defaultCharset()));
+        } finally {
+            out.close();
+        }
+    }
+
+}
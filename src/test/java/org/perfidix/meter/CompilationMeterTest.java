@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for CompilationMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class CompilationMeterTest {
+
+    /**
+     * Test method for {@link org.perfidix.meter.CompilationMeter#getRawValue()} and
+     * {@link org.perfidix.meter.CompilationMeter#convertRawValue(long)}.
+     */
+    @Test
+    public void testGetRawValue() {
+        assertTrue("Compilation time should be monitored", CompilationMeter.isSupported());
+        final CompilationMeter nano = new CompilationMeter(Time.NanoSeconds);
+        final CompilationMeter milli = new CompilationMeter(Time.MilliSeconds);
+        assertTrue("CompilationMeter offers raw values", nano.hasRawValue());
+        final long raw1 = milli.getRawValue();
+        assertTrue("Compilation time has to be larger than or equal to 0", milli.getRawValue() - raw1 >= 0);
+        assertTrue("Compilation time should be offered by the bean", CompilationMeter.getTotalCompilationTime() >= raw1);
+
+        assertEquals("Conversion for nanos", 1000000, nano.convertRawValue(1), 0);
+        assertEquals("Conversion for millis", 1, milli.convertRawValue(1), 0);
+        assertEquals("Unit for millis", Time.MilliSeconds.getUnit(), milli.getUnit());
+    }
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for ContentionCountMeter and ContentionTimeMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ContentionMeterTest {
+
+    /**
+     * Time the lock is held in milli seconds.
+     */
+    private static final long HOLD = 50;
+
+    /**
+     * Test method for {@link org.perfidix.meter.ContentionCountMeter#getRawValue()} and
+     * {@link org.perfidix.meter.ContentionTimeMeter#getRawValue()} for a blocked worker thread.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testBlocked() throws InterruptedException {
+        final ContentionCountMeter count = new ContentionCountMeter(Contention.Blocked);
+        final ContentionTimeMeter time = new ContentionTimeMeter(Contention.Blocked, Time.MilliSeconds);
+        final Object lock = new Object();
+        final CountDownLatch started = new CountDownLatch(1);
+        final long[] measured = new long[2];
+        final Thread worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final long count1 = count.getRawValue();
+                final long time1 = time.getRawValue();
+                started.countDown();
+                synchronized (lock) {
+                    measured[0] = count.getRawValue() - count1;
+                    measured[1] = time.getRawValue() - time1;
+                }
+            }
+        });
+        synchronized (lock) {
+            worker.start();
+            started.await();
+            Thread.sleep(HOLD);
+        }
+        worker.join();
+        assertEquals("Blocking has to be counted", 1, measured[0]);
+        assertTrue("Blocking has to be timed", measured[1] > 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ContentionCountMeter#getRawValue()} and
+     * {@link org.perfidix.meter.ContentionTimeMeter#getRawValue()} for a waiting thread.
+     */
+    @Test
+    public void testWaited() {
+        final ContentionCountMeter count = new ContentionCountMeter(Contention.Waited);
+        final ContentionTimeMeter time = new ContentionTimeMeter(Contention.Waited, Time.MilliSeconds);
+        assertTrue("ContentionCountMeter offers raw values", count.hasRawValue());
+        final long count1 = count.getRawValue();
+        final long time1 = time.getRawValue();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(HOLD));
+        assertTrue("Waiting has to be counted", count.getRawValue() - count1 >= 1);
+        assertTrue("Waiting has to be timed", time.getRawValue() - time1 >= 0);
+        assertEquals("Conversion for millis", 1, time.convertRawValue(1), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ContentionCountMeter#getName()} and
+     * {@link org.perfidix.meter.ContentionTimeMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetName() {
+        assertEquals("Name for blocked counts", "BlockedCountMeter", new ContentionCountMeter(Contention.Blocked).getName());
+        assertEquals("Name for waited times", "WaitedTimeMeter", new ContentionTimeMeter(Contention.Waited, Time.MilliSeconds).getName());
+        assertEquals("Meters of the same contention should be equal", new ContentionTimeMeter(Contention.Waited, Time.MilliSeconds), new ContentionTimeMeter(Contention.Waited, Time.MilliSeconds));
+        assertFalse("Meters of different contentions should not be equal", new ContentionCountMeter(Contention.Waited).equals(new ContentionCountMeter(Contention.Blocked)));
+    }
+
+}
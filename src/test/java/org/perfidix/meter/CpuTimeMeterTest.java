@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for CpuTimeMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class CpuTimeMeterTest {
+
+    /**
+     * Instance for nano seconds.
+     */
+    private transient CpuTimeMeter nano;
+
+    /**
+     * Instance for milli seconds.
+     */
+    private transient CpuTimeMeter milli;
+
+    /**
+     * Simple setUp.
+     */
+    @Before
+    public void setUp() {
+        nano = new CpuTimeMeter(Time.NanoSeconds);
+        milli = new CpuTimeMeter(Time.MilliSeconds);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CpuTimeMeter#getRawValue()} and
+     * {@link org.perfidix.meter.CpuTimeMeter#convertRawValue(long)}.
+     */
+    @Test
+    public void testGetRawValue() {
+        assertTrue("CpuTimeMeter offers raw values", nano.hasRawValue());
+        final long raw1 = nano.getRawValue();
+        final long raw2 = nano.getRawValue() - raw1;
+        assertTrue("raw value has to be larger than or equal to 0", raw2 >= 0);
+
+        assertEquals("Conversion for nanos", 1000000, nano.convertRawValue(1000000), 0);
+        assertEquals("Conversion for millis", 1, milli.convertRawValue(1000000), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CpuTimeMeter#getRawValue()} with the time of another thread.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testOtherThread() throws InterruptedException {
+        final long[] workerTime = new long[2];
+        final Thread worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final long start = nano.getRawValue();
+                final long end = System.nanoTime() + 200000000;
+                while (System.nanoTime() < end) {
+                    workerTime[1]++;
+                }
+                workerTime[0] = nano.getRawValue() - start;
+            }
+        });
+
+        final long start = nano.getRawValue();
+        worker.start();
+        worker.join();
+        final long ownTime = nano.getRawValue() - start;
+
+        assertTrue("Time of the worker should be measured", workerTime[0] > 0);
+        assertTrue("Time of the worker should not be measured by the waiting thread", ownTime < workerTime[0]);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.CpuTimeMeter#getUnit()} and
+     * {@link org.perfidix.meter.CpuTimeMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetUnit() {
+        assertEquals("Unit for nanos", Time.NanoSeconds.getUnit(), nano.getUnit());
+        assertEquals("Unit for millis", Time.MilliSeconds.getUnit(), milli.getUnit());
+        assertEquals("Meters with the same time should be equal", nano, new CpuTimeMeter(Time.NanoSeconds));
+        assertFalse("Meters with different times should not be equal", nano.equals(milli));
+    }
+
+}
@@ -64,6 +64,11 @@ public class FileMeterTest {
      */
     private transient long size;
 
+    /**
+     * Root of the created storage.
+     */
+    private transient File root;
+
     /**
      * Creating a new file if not existing at the path defined in the config. Note that it is advised to create the file
      * beforehand.
@@ -99,11 +104,11 @@ public class FileMeterTest {
      */
     @Before
     public void setUp() throws IOException {
-        final File file = Files.createTempDir();
-        byteMeter = new FileMeter(file, Memory.Byte);
-        kibiByteMeter = new FileMeter(file, Memory.KibiByte);
-        mebiByteMeter = new FileMeter(file, Memory.Mebibyte);
-        size = initializeStorage(file);
+        root = Files.createTempDir();
+        byteMeter = new FileMeter(root, Memory.Byte);
+        kibiByteMeter = new FileMeter(root, Memory.KibiByte);
+        mebiByteMeter = new FileMeter(root, Memory.Mebibyte);
+        size = initializeStorage(root);
     }
 
     /**
@@ -120,6 +125,69 @@ public class FileMeterTest {
         assertTrue("Data check for MebiByte", dataMB1 == size / Memory.Mebibyte.getNumberOfBytes());
     }
 
+    /**
+     * Test method for {@link org.perfidix.meter.FileMeter#getRawValue()} in the incremental mode.
+     *
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testIncremental() throws IOException, InterruptedException {
+        final FileMeter incremental = new FileMeter(root, Memory.Byte, true);
+        assertEquals("Initial size should be indexed", size, incremental.getRawValue());
+
+        final File folder = new File(new File(root, "folder1"), "created");
+        folder.mkdir();
+        createStorageVolume(new File(folder, "file"), 100);
+        assertEquals("Created files should be indexed", size + 100, waitForSize(incremental, size + 100));
+
+        createStorageVolume(new File(folder, "file"), 50);
+        assertEquals("Modified files should be indexed", size + 50, waitForSize(incremental, size + 50));
+
+        new File(folder, "file").delete();
+        folder.delete();
+        assertEquals("Deleted files should be removed from the index", size, waitForSize(incremental, size));
+        incremental.close();
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.FileMeter#close()} in the incremental mode.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testClose() throws IOException {
+        final FileMeter incremental = new FileMeter(root, Memory.Byte, true);
+        assertEquals("Initial size should be indexed", size, incremental.getRawValue());
+        incremental.close();
+        incremental.close();
+
+        final File file = new File(new File(root, "folder1"), "closed");
+        createStorageVolume(file, 100);
+        assertEquals("Closed meter should walk the tree again", size + 100, incremental.getRawValue());
+        incremental.close();
+        file.delete();
+        new FileMeter(root, Memory.Byte).close();
+    }
+
+    /**
+     * Waiting for the delivery of the events of the file system until the expected size is reached.
+     *
+     * @param meter    the incremental meter
+     * @param expected the expected size
+     * @return the last read size
+     * @throws InterruptedException
+     */
+    private static long waitForSize(final FileMeter meter, final long expected) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 15000;
+        long current = meter.getRawValue();
+        while (current != expected && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+            current = meter.getRawValue();
+        }
+        return current;
+    }
+
     /**
      * Test method for {@link org.perfidix.meter.FileMeter#getUnit()}.
      */
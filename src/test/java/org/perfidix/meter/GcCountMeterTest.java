@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for GcCountMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class GcCountMeterTest {
+
+    /**
+     * Test method for {@link org.perfidix.meter.GcCountMeter#getRawValue()}.
+     */
+    @Test
+    public void testGetRawValue() {
+        final GcCountMeter meter = new GcCountMeter();
+        assertTrue("GcCountMeter offers raw values", meter.hasRawValue());
+        final long raw1 = meter.getRawValue();
+        System.gc();
+        final long raw2 = meter.getRawValue() - raw1;
+        assertTrue("Collection has to be counted", raw2 >= 1);
+        assertEquals("Raw value should not be converted", raw2, meter.convertRawValue(raw2), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.GcCountMeter#equals(Object)}.
+     */
+    @Test
+    public void testEquals() {
+        assertEquals("All GcCountMeters should be equal", new GcCountMeter(), new GcCountMeter());
+        assertEquals("All GcCountMeters should have the same hash", new GcCountMeter().hashCode(), new GcCountMeter().hashCode());
+    }
+
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for GcReclaimedMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class GcReclaimedMeterTest {
+
+    /**
+     * Size of the garbage.
+     */
+    private static final int SIZE = 1 << 20;
+
+    /**
+     * Maximal waiting time for the notifications in milli seconds.
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Garbage, released before the collection.
+     */
+    private transient byte[][] garbage;
+
+    /**
+     * Test method for {@link org.perfidix.meter.GcReclaimedMeter#getRawValue()}.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testGetRawValue() throws InterruptedException {
+        final GcReclaimedMeter meter = new GcReclaimedMeter(Memory.Byte);
+        assertTrue("GcReclaimedMeter offers raw values", meter.hasRawValue());
+        final long raw1 = meter.getRawValue();
+        garbage = new byte[16][SIZE];
+        garbage = null;
+        System.gc();
+
+        // the notifications are sent asynchronously
+        final long end = System.currentTimeMillis() + TIMEOUT;
+        while (meter.getRawValue() == raw1 && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertTrue("Reclaimed garbage has to be measured", meter.getRawValue() - raw1 > 0);
+        assertEquals("Conversion for KiB", 1024, new GcReclaimedMeter(Memory.KibiByte).convertRawValue(SIZE), 0);
+    }
+
+}
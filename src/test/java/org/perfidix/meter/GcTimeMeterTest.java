@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Testcase for GcTimeMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class GcTimeMeterTest {
+
+    /**
+     * Test method for {@link org.perfidix.meter.GcTimeMeter#getRawValue()} and
+     * {@link org.perfidix.meter.GcTimeMeter#convertRawValue(long)}.
+     */
+    @Test
+    public void testGetRawValue() {
+        final GcTimeMeter nano = new GcTimeMeter(Time.NanoSeconds);
+        final GcTimeMeter milli = new GcTimeMeter(Time.MilliSeconds);
+        assertTrue("GcTimeMeter offers raw values", nano.hasRawValue());
+        final long raw1 = milli.getRawValue();
+        System.gc();
+        assertTrue("Time has to be larger than or equal to 0", milli.getRawValue() - raw1 >= 0);
+
+        assertEquals("Conversion for nanos", 1000000, nano.convertRawValue(1), 0);
+        assertEquals("Conversion for millis", 1, milli.convertRawValue(1), 0);
+        assertEquals("Unit for millis", Time.MilliSeconds.getUnit(), milli.getUnit());
+        assertFalse("Meters with different times should not be equal", nano.equals(milli));
+    }
+
+}
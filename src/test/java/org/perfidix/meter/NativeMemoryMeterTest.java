@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Testcase for NativeMemoryMeter.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class NativeMemoryMeterTest {
+
+    /**
+     * Test method for {@link org.perfidix.meter.NativeMemoryMeter#parseCommitted(String)}.
+     */
+    @Test
+    public void testParseCommitted() {
+        final String summary = "\nNative Memory Tracking:\n\nTotal: reserved=3011855278, committed=127566766\n       malloc: 4674 #18523\n"
+                + "-                 Java Heap (reserved=1540096, committed=96256)\n";
+        assertEquals("Committed memory of the total should be parsed", 127566766, NativeMemoryMeter.parseCommitted(summary));
+        assertEquals("Disabled tracking should not be parsed", -1, NativeMemoryMeter.parseCommitted("Native memory tracking is not enabled"));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.NativeMemoryMeter#getRawValue()}, only if the tracking is enabled.
+     */
+    @Test
+    public void testGetRawValue() {
+        if (NativeMemoryMeter.isSupported()) {
+            final NativeMemoryMeter meter = new NativeMemoryMeter(Memory.Byte);
+            assertTrue("Committed memory has to be measured", meter.getRawValue() > 0);
+        } else {
+            try {
+                new NativeMemoryMeter(Memory.Byte);
+                fail("Meter should not be created without tracking");
+            } catch (final UnsupportedOperationException e) {
+                assertTrue("Meter should not be created without tracking", e.getMessage().contains("NativeMemoryTracking"));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.meter;
+
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+
+/**
+ * Testcase for ProcMeter, only executed on systems offering <code>/proc/thread-self</code>.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public final class ProcMeterTest {
+
+    /**
+     * Size of the touched memory and the read file.
+     */
+    private static final int SIZE = 1 << 20;
+
+    /**
+     * Size of one page.
+     */
+    private static final int PAGE = 4096;
+
+    /**
+     * Simple setUp.
+     */
+    @Before
+    public void setUp() {
+        for (final ProcValue value : ProcValue.values()) {
+            assumeTrue(ProcMeter.isSupported(value));
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ProcMeter#getRawValue()} with context switches.
+     *
+     * @throws InterruptedException
+     */
+    @Test
+    public void testContextSwitches() throws InterruptedException {
+        final ProcMeter meter = new ProcMeter(ProcValue.VoluntaryContextSwitches);
+        assertTrue("ProcMeter offers raw values", meter.hasRawValue());
+        final long raw1 = meter.getRawValue();
+        Thread.sleep(1);
+        assertTrue("Sleeping has to switch the context", meter.getRawValue() - raw1 >= 1);
+        assertTrue("Involuntary context switches have to be read", new ProcMeter(ProcValue.InvoluntaryContextSwitches).getRawValue() >= 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ProcMeter#getRawValue()} with page faults.
+     */
+    @Test
+    public void testPageFaults() {
+        final ProcMeter meter = new ProcMeter(ProcValue.MinorPageFaults);
+        final long raw1 = meter.getRawValue();
+        final ByteBuffer memory = ByteBuffer.allocateDirect(SIZE);
+        for (int i = 0; i < SIZE; i = i + PAGE) {
+            memory.put(i, (byte) 1);
+        }
+        assertTrue("Touching fresh memory has to fault", meter.getRawValue() - raw1 >= SIZE / PAGE / 2);
+        assertTrue("Major page faults have to be read", new ProcMeter(ProcValue.MajorPageFaults).getRawValue() >= 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ProcMeter#getRawValue()} with read bytes.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testReadBytes() throws IOException {
+        final File file = File.createTempFile("perfidix", ".bin");
+        try {
+            final FileOutputStream out = new FileOutputStream(file);
+            final ProcMeter written = new ProcMeter(ProcValue.WrittenBytes);
+            final long rawWritten = written.getRawValue();
+            try {
+                out.write(new byte[SIZE]);
+            } finally {
+                out.close();
+            }
+            assertTrue("Written bytes have to be measured", written.getRawValue() - rawWritten >= SIZE);
+
+            final ProcMeter read = new ProcMeter(ProcValue.ReadBytes);
+            final long rawRead = read.getRawValue();
+            final FileInputStream in = new FileInputStream(file);
+            try {
+                final byte[] buffer = new byte[SIZE];
+                int offset = 0;
+                while (offset < SIZE) {
+                    offset = offset + in.read(buffer, offset, SIZE - offset);
+                }
+            } finally {
+                in.close();
+            }
+            assertTrue("Read bytes have to be measured", read.getRawValue() - rawRead >= SIZE);
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ProcMeter#close()}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testClose() throws Exception {
+        final ProcMeter meter = new ProcMeter(ProcValue.MinorPageFaults);
+        final long raw1 = meter.getRawValue();
+        final Thread other = new Thread() {
+            @Override
+            public void run() {
+                meter.getRawValue();
+            }
+        };
+        other.start();
+        other.join();
+        meter.close();
+        assertTrue("Closed meter has to be read again", meter.getRawValue() >= raw1);
+        meter.close();
+        meter.close();
+        assertTrue("Closed meter has to be read again", meter.getRawValue() >= raw1);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.meter.ProcMeter#getName()} and
+     * {@link org.perfidix.meter.ProcMeter#equals(Object)}.
+     */
+    @Test
+    public void testGetName() {
+        final ProcMeter meter = new ProcMeter(ProcValue.MinorPageFaults);
+        assertEquals("Name should be related to the value", "MinorPageFaultsMeter", meter.getName());
+        assertEquals("Unit should be related to the value", ProcValue.MinorPageFaults.getUnit(), meter.getUnit());
+        assertEquals("Meters of the same value should be equal", meter, new ProcMeter(ProcValue.MinorPageFaults));
+        assertFalse("Meters of different values should not be equal", meter.equals(new ProcMeter(ProcValue.MajorPageFaults)));
+    }
+
+}
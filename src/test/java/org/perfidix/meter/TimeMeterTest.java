@@ -85,6 +85,23 @@ public final class TimeMeterTest {
         assertTrue("minutevalue has to be larger than 0", dataMinute2 > 0);
     }
 
+    /**
+     * Test method for {@link org.perfidix.meter.TimeMeter#getRawValue()} and
+     * {@link org.perfidix.meter.TimeMeter#convertRawValue(long)}.
+     */
+    @Test
+    public void testGetRawValue() {
+        assertTrue("TimeMeter offers raw values", nano.hasRawValue());
+        final long raw1 = milli.getRawValue();
+        final long raw2 = milli.getRawValue() - raw1;
+        assertTrue("raw value has to be larger than or equal to 0", raw2 >= 0);
+
+        assertEquals("Conversion for nanos", 1000000, nano.convertRawValue(1000000), 0);
+        assertEquals("Conversion for millis", 1, milli.convertRawValue(1000000), 0);
+        assertEquals("Conversion for seconds", 0.001, second.convertRawValue(1000000), 0.0000001);
+        assertEquals("Conversion for minutes", 1, minute.convertRawValue(60000000000L), 0);
+    }
+
     /**
      * Test method for {@link org.perfidix.meter.TimeMeter#getUnit()}.
      */
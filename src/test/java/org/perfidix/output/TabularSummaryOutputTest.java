@@ -114,6 +114,20 @@ public class TabularSummaryOutputTest {
         assertTrue("Complete Output check", result.startsWith("|= Benchmark ======================================================================|\n" + "| -       | unit  | sum   | min   | max   | avg   | stddev | conf95        | runs  |\n" + "|===================================== Meter1 =====================================|\n" + "|. Class1 .........................................................................|\n" + "| method1 | ticks | 55.00 | 01.00 | 10.00 | 05.50 | 03.03  | [01.00-10.00] | 10.00 |\n" + "|_ Summary for Class1 _____________________________________________________________|\n" + "|         | ticks | 55.00 | 01.00 | 10.00 | 05.50 | 03.03  | [01.00-10.00] | 10.00 |\n" + "|----------------------------------------------------------------------------------|\n" + "|======================== Summary for the whole benchmark =========================|\n" + "|         | ticks | 55.00 | 01.00 | 10.00 | 05.50 | 03.03  | [01.00-10.00] | 10.00 |\n" + "|=================================== Exceptions ===================================|\n" + "|  Related exception: IOException                                                  |\n" + "|  Related place: method invocation                                                |\n" + "|  Related method: method1                                                         |\n" + "|  Related annotation: Bench                                                       |\n" + "|----------------------------------------------------------------------------------|\n" + "|==================================================================================|\n"));
     }
 
+    /**
+     * Test method for
+     * {@link org.perfidix.ouput.TabularSummaryOutput#visitBenchmark(org.perfidix.result.BenchmarkResult)} with
+     * percentile columns.
+     */
+    @Test
+    public final void testVisitBenchmarkWithPercentiles() {
+        final TabularSummaryOutput output = new TabularSummaryOutput(System.out, 50, 99.9);
+        output.visitBenchmark(benchRes);
+        final String result = bytes.toString();
+        assertTrue("Percentile columns should be named", result.contains("| runs  | p50   | p99.9 |\n"));
+        assertTrue("Percentile columns should be filled", result.contains("| 10.00 | 05.50 | 10.00 |\n"));
+    }
+
     /**
      * Test method for
      * {@link org.perfidix.ouput.TabularSummaryOutput#listenToResultSet(org.perfidix.element.BenchmarkMethod, org.perfidix.meter.AbstractMeter, double)}.
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2012, University of Konstanz, Distributed Systems Group All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the
+ * following conditions are met: * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. * Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or other materials provided with the
+ * distribution. * Neither the name of the University of Konstanz nor the names of its contributors may be used to
+ * endorse or promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.perfidix.result;
+
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Test case for {@link Histogram}.
+ *
+ * @author Sebastian Graf, University of Konstanz
+ */
+public class HistogramTest {
+
+    private final static int NUMBEROFVALUES = 10000;
+
+    private final static double RELATIVEERROR = 0.004;
+
+    /**
+     * Test method for {@link org.perfidix.result.Histogram#getPercentile(double)}.
+     */
+    @Test
+    public void testPercentiles() {
+        final Histogram histogram = new Histogram();
+        assertTrue("Empty histogram should have no percentiles", Double.isNaN(histogram.getPercentile(50)));
+        for (int i = 1; i <= NUMBEROFVALUES; i++) {
+            histogram.record(i);
+        }
+        assertEquals("Values should be counted", NUMBEROFVALUES, histogram.getCount());
+        for (final double percentile : new double[]{1, 50, 90, 99, 99.9, 99.99}) {
+            final double exact = Math.ceil(percentile / 100 * NUMBEROFVALUES);
+            assertEquals("Percentile " + percentile + " should be within the relative error", exact, histogram.getPercentile(percentile), exact * RELATIVEERROR);
+        }
+        assertEquals("Maximum should be exact", NUMBEROFVALUES, histogram.getPercentile(100), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.Histogram#record(double)} with negative values, zeros and a high
+     * dynamic range.
+     */
+    @Test
+    public void testRange() {
+        final Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(0);
+        histogram.record(5);
+        assertEquals("Negative values should be ordered first", -5, histogram.getPercentile(1), 0);
+        assertEquals("Zero should be counted", 0, histogram.getPercentile(50), 0);
+        assertEquals("Positive values should be ordered last", 5, histogram.getPercentile(100), 0);
+
+        histogram.record(1e-9);
+        histogram.record(1e9);
+        assertEquals("Small values should be recorded", 1e-9, histogram.getPercentile(60), 1e-9 * RELATIVEERROR);
+        assertEquals("Large values should be recorded", 1e9, histogram.getPercentile(100), 0);
+        assertEquals("Minimum should be exact", -5, histogram.getMin(), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.Histogram#add(Histogram)}.
+     */
+    @Test
+    public void testAdd() {
+        final Histogram all = new Histogram();
+        final Histogram positive = new Histogram();
+        final Histogram negative = new Histogram();
+        for (int i = 1; i <= NUMBEROFVALUES; i++) {
+            all.record(i * 1000);
+            all.record(-i);
+            positive.record(i * 1000);
+            negative.record(-i);
+        }
+        final Histogram merged = new Histogram(positive);
+        merged.add(negative);
+        merged.add(new Histogram());
+        assertEquals("Merged histograms should count all values", all.getCount(), merged.getCount());
+        for (final double percentile : new double[]{1, 25, 50, 75, 99, 100}) {
+            assertEquals("Merged histograms should be lossless", all.getPercentile(percentile), merged.getPercentile(percentile), 0);
+        }
+        assertEquals("Copied histogram should not be changed by merging", NUMBEROFVALUES, positive.getCount());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.Histogram#getIgnored()}.
+     */
+    @Test
+    public void testIgnored() {
+        final Histogram histogram = new Histogram();
+        histogram.record(1);
+        histogram.record(Double.NaN);
+        assertEquals("NaN should not be recorded", 1, histogram.getCount());
+        assertEquals("NaN should be counted as ignored", 1, histogram.getIgnored());
+        final Histogram merged = new Histogram(histogram);
+        merged.add(histogram);
+        assertEquals("Ignored values should be merged", 2, merged.getIgnored());
+        assertEquals("NaN should not change the percentiles", 1, merged.getPercentile(100), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.Histogram#getPercentile(double)} with an invalid percentile.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new Histogram().getPercentile(0);
+    }
+
+}
@@ -27,8 +27,10 @@ import org.perfidix.exceptions.PerfidixMethodInvocationException;
 import org.perfidix.meter.CountingMeter;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 
@@ -236,6 +238,227 @@ public class ResultContainerTest {
 
     }
 
+    /**
+     * Test method for {@link org.perfidix.result.ConcurrencyResult} and {@link org.perfidix.result.ThreadResult} .
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testConcurrencyResults() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult concurrentRes = new BenchmarkResult();
+        for (int thread = 0; thread < TICKFACTOR; thread++) {
+            concurrentRes.addData(meth, TICKFACTOR, thread, meter, thread + 1);
+        }
+        concurrentRes.addThroughput(meth, TICKFACTOR, NUMBEROFTICKS, 1000000000L);
+
+        final MethodResult methodRes = concurrentRes.getResultForObject(Class1.class).getResultForObject(meth);
+        final ConcurrencyResult concurrencyRes = methodRes.getResultForObject(TICKFACTOR);
+        assertEquals("Number of threads should be stored", TICKFACTOR, concurrencyRes.getNumberOfThreads());
+        assertEquals("Throughput should be ops per second", NUMBEROFTICKS, concurrencyRes.getThroughput(), 0);
+        assertEquals("Data of all threads should be aggregated", 1.5, concurrencyRes.mean(meter), 0);
+        assertEquals("Histograms of all threads should be merged", 1.0, concurrencyRes.getHistogram(meter).getPercentile(50), 0.01);
+        assertEquals("Percentiles of all threads should be exact", 1.5, concurrencyRes.getPercentile(meter, 50), 0);
+        assertEquals("Histograms of all threads should be merged", 2.0, concurrentRes.getPercentile(meter, 100), 0);
+        assertEquals("Data of all threads should be included in the method", TICKFACTOR, methodRes.getNumberOfResult(meter));
+        assertEquals("Data of one thread should be stored", 2.0, concurrencyRes.getResultForObject(1).mean(meter), 0);
+        assertEquals("Data of all threads should be included in the benchmark", TICKFACTOR, concurrentRes.getNumberOfResult(meter));
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.AbstractResult#getResultSet(org.perfidix.meter.AbstractMeter)} of
+     * aggregating results.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testAggregatedViews() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult res = new BenchmarkResult();
+        final Collection<Double> benchSet = res.getResultSet(meter);
+        assertTrue("Unknown meter should not have any results", benchSet.isEmpty());
+        assertTrue("Querying should not register a meter", res.getRegisteredMeters().isEmpty());
+
+        res.addData(meth, meter, 1);
+        final ClassResult classRes = res.getResultForObject(Class1.class);
+        final Collection<Double> classSet = classRes.getResultSet(meter);
+        res.addData(meth, meter, 2);
+        assertEquals("Class set should reflect later data of the method", 2, classSet.size());
+        assertEquals("Benchmark set should reflect later data of the method", 2, benchSet.size());
+        assertEquals("Aggregated data should be the method data", 3.0, res.sum(meter), 0);
+        assertTrue("Meter should be registered through the method", res.getRegisteredMeters().contains(meter));
+    }
+
+    /**
+     * Test method for the cached statistics of {@link org.perfidix.result.AbstractResult}.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testCachedStatistics() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult res = new BenchmarkResult();
+        assertTrue("Statistics of no data should be undefined", Double.isNaN(res.mean(meter)));
+        res.addData(meth, meter, 4);
+        assertEquals("Statistics should be computed after adding data", 4.0, res.mean(meter), 0);
+        assertEquals("Deviation of one value should be zero", 0.0, res.getStandardDeviation(meter), 0);
+        res.addData(meth, meter, 2);
+        assertEquals("Statistics should be recomputed after adding data", 3.0, res.mean(meter), 0);
+        assertEquals("Minimum should be recomputed after adding data", 2.0, res.min(meter), 0);
+        assertEquals("Class statistics should be recomputed after adding data", 6.0, res.getResultForObject(Class1.class).sum(meter), 0);
+        assertEquals("Histogram should be computed after adding data", 2, res.getHistogram(meter).getCount());
+
+        final BenchmarkResult shard = new BenchmarkResult();
+        shard.addData(meth, meter, 12);
+        res.merge(shard);
+        assertEquals("Statistics should be recomputed after merging", 6.0, res.mean(meter), 0);
+        assertEquals("Histogram should be recomputed after merging", 3, res.getHistogram(meter).getCount());
+        res.getResultForObject(Class1.class).getResultForObject(meth).addAggregates(meter, shard.getResultForObject(Class1.class).getResultForObject(meth).getAggregates(meter));
+        assertEquals("Statistics should be recomputed after adding aggregates", 7.5, res.mean(meter), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.KindOfStorage#Streaming}.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testStreamingStorage() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult samples = new BenchmarkResult();
+        final BenchmarkResult streaming = new BenchmarkResult(KindOfStorage.Streaming);
+        final BenchmarkResult shard = new BenchmarkResult(KindOfStorage.Streaming);
+        for (int run = 0; run < 100; run++) {
+            samples.addData(meth, meter, run);
+            if (run % 2 == 0) {
+                streaming.addData(meth, meter, run);
+            } else {
+                shard.addData(meth, meter, run);
+            }
+        }
+        streaming.merge(shard);
+
+        assertTrue("Values should not be kept", streaming.getResultSet(meter).isEmpty());
+        assertEquals("Values should be counted", 100, streaming.getNumberOfResult(meter));
+        assertEquals("Sum should be exact", samples.sum(meter), streaming.sum(meter), 0);
+        assertEquals("Square sum should be exact", samples.squareSum(meter), streaming.squareSum(meter), 0);
+        assertEquals("Minimum should be exact", samples.min(meter), streaming.min(meter), 0);
+        assertEquals("Maximum should be exact", samples.max(meter), streaming.max(meter), 0);
+        assertEquals("Mean should be exact", samples.mean(meter), streaming.mean(meter), 0.000001);
+        assertEquals("Stdev should be exact", samples.getStandardDeviation(meter), streaming.getStandardDeviation(meter), 0.000001);
+        assertEquals("Percentiles should be estimated from the histogram", samples.getConf95(meter), streaming.getConf95(meter), 1);
+        assertEquals("Percentiles of the samples should be exact", 94.95, samples.getPercentile(meter, 95), 0.000001);
+
+        for (int run = 100; run < 10000; run++) {
+            streaming.addData(meth, meter, run);
+        }
+        assertEquals("Class should aggregate streamed values", 10000, streaming.getResultForObject(Class1.class).getNumberOfResult(meter));
+        assertEquals("Histogram should bound the relative error", 9499, streaming.getConf95(meter), 9499 * 0.004);
+        assertEquals("Histogram should bound the relative error", 499, streaming.getConf05(meter), 499 * 0.004);
+        assertEquals("Confidence should be the percentile", streaming.getPercentile(meter, 95), streaming.getConf95(meter), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.KindOfStorage#Sketch} and
+     * {@link org.perfidix.result.BenchmarkResult#merge(BenchmarkResult)} of sketches.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testSketchStorage() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final int shards = 4;
+        final int values = 25000;
+        final BenchmarkResult merged = new BenchmarkResult(KindOfStorage.Sketch);
+        for (int shard = 0; shard < shards; shard++) {
+            final BenchmarkResult shardRes = new BenchmarkResult(KindOfStorage.Sketch);
+            // each shard covers the whole range with a different order
+            for (int i = 0; i < values; i++) {
+                shardRes.addData(meth, meter, (i * 7919L + shard * 104729L) % values);
+                shardRes.addRun(meth, false, false);
+            }
+            merged.merge(shardRes);
+        }
+
+        final MethodResult methRes = merged.getResultForObject(Class1.class).getResultForObject(meth);
+        assertEquals("Values of all shards should be counted", shards * values, merged.getNumberOfResult(meter));
+        assertEquals("Runs of all shards should be merged", shards * values, methRes.getNumberOfRuns());
+        assertTrue("Values should not be kept", merged.getResultSet(meter).isEmpty());
+        assertEquals("Mean should be exact", (values - 1) / 2.0, merged.mean(meter), 0.000001);
+        assertEquals("Maximum should be exact", values - 1, merged.max(meter), 0);
+        assertEquals("Sketch should bound the rank error", 0.95 * values, merged.getConf95(meter), 0.02 * values);
+        assertEquals("Sketch should bound the rank error", 0.05 * values, merged.getConf05(meter), 0.02 * values);
+        assertEquals("Sketch should bound the rank error", 0.99 * values, merged.getPercentile(meter, 99), 0.02 * values);
+        assertEquals("Confidence should be the percentile", merged.getPercentile(meter, 5), merged.getConf05(meter), 0);
+        assertEquals("Histograms of all shards should be merged", 0.99 * values, merged.getHistogram(meter).getPercentile(99), 0.01 * values);
+
+        final BenchmarkResult small = new BenchmarkResult(KindOfStorage.Sketch);
+        for (int i = 100; i > 0; i--) {
+            small.addData(meth, meter, i);
+        }
+        assertEquals("Small sketches should keep the nearest rank", 95, small.getConf95(meter), 0);
+        assertEquals("Small sketches should keep the nearest rank", 1, small.getPercentile(meter, 0.5), 0);
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.BenchmarkResult#merge(BenchmarkResult)} of a shard not keeping its
+     * values into a result keeping its values.
+     *
+     * @throws Exception of any kind
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeSketchIntoSamples() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult shard = new BenchmarkResult(KindOfStorage.Sketch);
+        shard.addData(meth, meter, 1);
+        new BenchmarkResult().merge(shard);
+    }
+
+    /**
+     * Test method for the constructors keeping every value per default.
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testDefaultStorage() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        assertEquals("Method results should keep every value", KindOfStorage.Samples, new MethodResult(meth).getKindOfStorage());
+        assertEquals("Class results should keep every value", KindOfStorage.Samples, new ClassResult(Class1.class).getKindOfStorage());
+        assertEquals("Benchmark results should keep every value", KindOfStorage.Samples, benchRes.getKindOfStorage());
+    }
+
+    /**
+     * Test method for {@link org.perfidix.result.MethodResult#getRunsHitByGc()},
+     * {@link org.perfidix.result.MethodResult#getRunsHitByJit()} and
+     * {@link org.perfidix.result.BenchmarkResult#merge(BenchmarkResult)} .
+     *
+     * @throws Exception of any kind
+     */
+    @Test
+    public void testDisturbedRuns() throws Exception {
+        final BenchmarkMethod meth = new BenchmarkMethod(Class1.class.getDeclaredMethod("method1"));
+        final BenchmarkResult shard = new BenchmarkResult();
+        for (int run = 0; run < NUMBEROFTICKS; run++) {
+            shard.addData(meth, meter, run);
+            shard.addRun(meth, run % TICKFACTOR == 0, run == 1);
+        }
+        final MethodResult shardRes = shard.getResultForObject(Class1.class).getResultForObject(meth);
+        assertEquals("Runs should be counted", NUMBEROFTICKS, shardRes.getNumberOfRuns());
+        assertEquals("Runs hit by gc should be flagged", NUMBEROFTICKS / TICKFACTOR, shardRes.getRunsHitByGc().cardinality());
+        assertTrue("First run should be hit by gc", shardRes.isHitByGc(0));
+        assertFalse("Second run should not be hit by gc", shardRes.isHitByGc(1));
+        assertEquals("Runs hit by jit should be flagged independently", 1, shardRes.getRunsHitByJit().cardinality());
+        assertTrue("Second run should be hit by jit", shardRes.isHitByJit(1));
+
+        final BenchmarkResult merged = new BenchmarkResult();
+        merged.merge(shard);
+        merged.merge(shard);
+        final MethodResult mergedRes = merged.getResultForObject(Class1.class).getResultForObject(meth);
+        assertEquals("Runs of both shards should be counted", 2 * NUMBEROFTICKS, mergedRes.getNumberOfRuns());
+        assertTrue("Runs of the second shard should be flagged after the first shard", mergedRes.isHitByGc(NUMBEROFTICKS));
+        assertTrue("Runs of the second shard should be flagged after the first shard", mergedRes.isHitByJit(NUMBEROFTICKS + 1));
+    }
+
     private class Class1 {
         @Bench
         public void method1() {